@@ -44,7 +44,7 @@ public class GremlinConnection extends Connection implements java.sql.Connection
 
     @Override
     public void doClose() {
-        GremlinQueryExecutor.close();
+        GremlinQueryExecutor.close(gremlinConnectionProperties);
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationExecutor;
 import software.aws.neptune.jdbc.Connection;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
 import software.aws.neptune.jdbc.utilities.ConnectionProperties;
@@ -35,6 +36,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,10 +78,23 @@ public class GremlinConnectionProperties extends ConnectionProperties {
     public static final String VALIDATION_REQUEST_KEY = "validationRequest";
     public static final String RECONNECT_INTERVAL_KEY = "reconnectInterval";
     public static final String LOAD_BALANCING_STRATEGY_KEY = "loadBalancingStrategy";
+    public static final String ADAPTIVE_FETCH_SIZE_KEY = "adaptiveFetchSize";
+    public static final String PAGINATION_MAX_THREADS_KEY = "paginationMaxThreads";
+    public static final String PAGINATION_QUEUE_SIZE_KEY = "paginationQueueSize";
+    public static final String STREAM_RESULTS_KEY = "streamResults";
+    public static final String COLUMN_DISCOVERY_ROWS_KEY = "columnDiscoveryRows";
+    public static final String READER_ENDPOINTS_KEY = "readerEndpoints";
+    public static final String ROUTING_STRATEGY_KEY = "routingStrategy";
     public static final String DEFAULT_PATH = "/gremlin";
     public static final int DEFAULT_PORT = 8182;
     public static final boolean DEFAULT_ENABLE_SSL = true;
     public static final boolean DEFAULT_SSL_SKIP_VALIDATION = false;
+    public static final boolean DEFAULT_ADAPTIVE_FETCH_SIZE = false;
+    public static final int DEFAULT_PAGINATION_MAX_THREADS = PaginationExecutor.DEFAULT_MAX_THREADS;
+    public static final int DEFAULT_PAGINATION_QUEUE_SIZE = PaginationExecutor.DEFAULT_QUEUE_SIZE;
+    public static final boolean DEFAULT_STREAM_RESULTS = false;
+    public static final int DEFAULT_COLUMN_DISCOVERY_ROWS = 1000;
+    public static final GremlinRoutingStrategy DEFAULT_ROUTING_STRATEGY = GremlinRoutingStrategy.RoundRobin;
     public static final Serializers DEFAULT_SERIALIZER = Serializers.GRAPHBINARY_V1D0;
     public static final Map<String, Object> DEFAULT_PROPERTIES_MAP = new HashMap<>();
     private static final List<String> SUPPORTED_PROPERTIES_LIST = ImmutableList.<String>builder()
@@ -115,6 +130,13 @@ public class GremlinConnectionProperties extends ConnectionProperties {
             .add(VALIDATION_REQUEST_KEY)
             .add(RECONNECT_INTERVAL_KEY)
             .add(LOAD_BALANCING_STRATEGY_KEY)
+            .add(ADAPTIVE_FETCH_SIZE_KEY)
+            .add(PAGINATION_MAX_THREADS_KEY)
+            .add(PAGINATION_QUEUE_SIZE_KEY)
+            .add(STREAM_RESULTS_KEY)
+            .add(COLUMN_DISCOVERY_ROWS_KEY)
+            .add(READER_ENDPOINTS_KEY)
+            .add(ROUTING_STRATEGY_KEY)
             .build();
     private static final Map<String, ConnectionProperties.PropertyConverter<?>> PROPERTY_CONVERTER_MAP =
             new HashMap<>();
@@ -140,6 +162,13 @@ public class GremlinConnectionProperties extends ConnectionProperties {
         PROPERTY_CONVERTER_MAP.put(MAX_CONTENT_LENGTH_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(RECONNECT_INTERVAL_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(SSL_SKIP_VALIDATION_KEY, ConnectionProperties::toBoolean);
+        PROPERTY_CONVERTER_MAP.put(ADAPTIVE_FETCH_SIZE_KEY, ConnectionProperties::toBoolean);
+        PROPERTY_CONVERTER_MAP.put(PAGINATION_MAX_THREADS_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(PAGINATION_QUEUE_SIZE_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(STREAM_RESULTS_KEY, ConnectionProperties::toBoolean);
+        PROPERTY_CONVERTER_MAP.put(COLUMN_DISCOVERY_ROWS_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(READER_ENDPOINTS_KEY, (key, value) -> value);
+        PROPERTY_CONVERTER_MAP.put(ROUTING_STRATEGY_KEY, GremlinConnectionProperties::toRoutingStrategy);
     }
 
     static {
@@ -149,6 +178,13 @@ public class GremlinConnectionProperties extends ConnectionProperties {
         DEFAULT_PROPERTIES_MAP.put(ENABLE_SSL_KEY, DEFAULT_ENABLE_SSL);
         DEFAULT_PROPERTIES_MAP.put(SSL_SKIP_VALIDATION_KEY, DEFAULT_SSL_SKIP_VALIDATION);
         DEFAULT_PROPERTIES_MAP.put(SERIALIZER_KEY, DEFAULT_SERIALIZER);
+        DEFAULT_PROPERTIES_MAP.put(ADAPTIVE_FETCH_SIZE_KEY, DEFAULT_ADAPTIVE_FETCH_SIZE);
+        DEFAULT_PROPERTIES_MAP.put(PAGINATION_MAX_THREADS_KEY, DEFAULT_PAGINATION_MAX_THREADS);
+        DEFAULT_PROPERTIES_MAP.put(PAGINATION_QUEUE_SIZE_KEY, DEFAULT_PAGINATION_QUEUE_SIZE);
+        DEFAULT_PROPERTIES_MAP.put(STREAM_RESULTS_KEY, DEFAULT_STREAM_RESULTS);
+        DEFAULT_PROPERTIES_MAP.put(COLUMN_DISCOVERY_ROWS_KEY, DEFAULT_COLUMN_DISCOVERY_ROWS);
+        DEFAULT_PROPERTIES_MAP.put(READER_ENDPOINTS_KEY, "");
+        DEFAULT_PROPERTIES_MAP.put(ROUTING_STRATEGY_KEY, DEFAULT_ROUTING_STRATEGY);
         // Set to maximum value by default. Apparently max value is 1 GB.
         // https://stackoverflow.com/questions/58055662/aws-neptune-io-netty-handler-codec-corruptedframeexception
         DEFAULT_PROPERTIES_MAP.put(MAX_CONTENT_LENGTH_KEY, 1024 * 1024 * 1024);
@@ -1092,6 +1128,170 @@ public class GremlinConnectionProperties extends ConnectionProperties {
         put(LOAD_BALANCING_STRATEGY_KEY, strategy);
     }
 
+    /**
+     * Gets the adaptive fetch size flag.
+     *
+     * @return The adaptive fetch size flag.
+     */
+    public boolean getAdaptiveFetchSize() {
+        return (boolean) get(ADAPTIVE_FETCH_SIZE_KEY);
+    }
+
+    /**
+     * Sets the adaptive fetch size flag. When enabled, SQL queries start with a small page size which grows
+     * while the consumer keeps pace with the results.
+     *
+     * @param adaptiveFetchSize The adaptive fetch size flag.
+     */
+    public void setAdaptiveFetchSize(final boolean adaptiveFetchSize) {
+        put(ADAPTIVE_FETCH_SIZE_KEY, adaptiveFetchSize);
+    }
+
+    /**
+     * Gets the maximum number of threads paginating SQL query results, shared by all connections.
+     *
+     * @return The maximum number of pagination threads.
+     */
+    public int getPaginationMaxThreads() {
+        return (int) get(PAGINATION_MAX_THREADS_KEY);
+    }
+
+    /**
+     * Sets the maximum number of threads paginating SQL query results, shared by all connections. Only the value
+     * of the first SQL connection opened is used.
+     *
+     * @param paginationMaxThreads The maximum number of pagination threads.
+     * @throws SQLException if value is invalid.
+     */
+    public void setPaginationMaxThreads(final int paginationMaxThreads) throws SQLException {
+        if (paginationMaxThreads < 1) {
+            throw invalidConnectionPropertyError(PAGINATION_MAX_THREADS_KEY, paginationMaxThreads);
+        }
+        put(PAGINATION_MAX_THREADS_KEY, paginationMaxThreads);
+    }
+
+    /**
+     * Gets the maximum number of SQL queries waiting for a pagination thread.
+     *
+     * @return The pagination queue size.
+     */
+    public int getPaginationQueueSize() {
+        return (int) get(PAGINATION_QUEUE_SIZE_KEY);
+    }
+
+    /**
+     * Sets the maximum number of SQL queries waiting for a pagination thread. Only the value of the first SQL
+     * connection opened is used.
+     *
+     * @param paginationQueueSize The pagination queue size.
+     * @throws SQLException if value is invalid.
+     */
+    public void setPaginationQueueSize(final int paginationQueueSize) throws SQLException {
+        if (paginationQueueSize < 0) {
+            throw invalidConnectionPropertyError(PAGINATION_QUEUE_SIZE_KEY, paginationQueueSize);
+        }
+        put(PAGINATION_QUEUE_SIZE_KEY, paginationQueueSize);
+    }
+
+    /**
+     * Gets the stream results flag.
+     *
+     * @return The stream results flag.
+     */
+    public boolean getStreamResults() {
+        return (boolean) get(STREAM_RESULTS_KEY);
+    }
+
+    /**
+     * Sets the stream results flag. When enabled, Gremlin query results are retrieved from the database one page
+     * at a time while the ResultSet is iterated, instead of all at once before the query returns.
+     *
+     * @param streamResults The stream results flag.
+     */
+    public void setStreamResults(final boolean streamResults) {
+        put(STREAM_RESULTS_KEY, streamResults);
+    }
+
+    /**
+     * Gets the number of results used to discover the columns of a streamed Gremlin query result.
+     *
+     * @return The number of column discovery rows.
+     */
+    public int getColumnDiscoveryRows() {
+        return (int) get(COLUMN_DISCOVERY_ROWS_KEY);
+    }
+
+    /**
+     * Sets the number of results used to discover the columns of a streamed Gremlin query result.
+     *
+     * @param columnDiscoveryRows The number of column discovery rows.
+     * @throws SQLException if value is invalid.
+     */
+    public void setColumnDiscoveryRows(final int columnDiscoveryRows) throws SQLException {
+        if (columnDiscoveryRows < 1) {
+            throw invalidConnectionPropertyError(COLUMN_DISCOVERY_ROWS_KEY, columnDiscoveryRows);
+        }
+        put(COLUMN_DISCOVERY_ROWS_KEY, columnDiscoveryRows);
+    }
+
+    /**
+     * Gets the reader endpoints the requests are routed across.
+     *
+     * @return The reader endpoints, empty if the requests are sent to the contact point.
+     */
+    public List<String> getReaderEndpoints() {
+        final List<String> readerEndpoints = new ArrayList<>();
+        for (final String endpoint : getProperty(READER_ENDPOINTS_KEY).split(",")) {
+            if (!endpoint.trim().isEmpty()) {
+                readerEndpoints.add(endpoint.trim());
+            }
+        }
+        return readerEndpoints;
+    }
+
+    /**
+     * Sets the reader endpoints to route the requests across, instead of sending them to the contact point.
+     *
+     * @param readerEndpoints Comma separated reader endpoints.
+     * @throws SQLException if value is invalid.
+     */
+    public void setReaderEndpoints(@NonNull final String readerEndpoints) throws SQLException {
+        setProperty(READER_ENDPOINTS_KEY,
+                (String) PROPERTY_CONVERTER_MAP.get(READER_ENDPOINTS_KEY).convert(READER_ENDPOINTS_KEY,
+                        readerEndpoints));
+    }
+
+    /**
+     * Gets the strategy used to route the requests across the hosts.
+     *
+     * @return The routing strategy.
+     */
+    public GremlinRoutingStrategy getRoutingStrategy() {
+        return (GremlinRoutingStrategy) get(ROUTING_STRATEGY_KEY);
+    }
+
+    /**
+     * Sets the strategy used to route the requests across the hosts. It is not used if a load balancing strategy
+     * is set.
+     *
+     * @param routingStrategy The routing strategy.
+     */
+    public void setRoutingStrategy(@NonNull final GremlinRoutingStrategy routingStrategy) {
+        put(ROUTING_STRATEGY_KEY, routingStrategy);
+    }
+
+    private static GremlinRoutingStrategy toRoutingStrategy(@NonNull final String key, @NonNull final String value)
+            throws SQLException {
+        if (isWhitespace(value)) {
+            return DEFAULT_ROUTING_STRATEGY;
+        }
+        final GremlinRoutingStrategy routingStrategy = GremlinRoutingStrategy.fromString(value);
+        if (routingStrategy == null) {
+            throw invalidConnectionPropertyError(key, value);
+        }
+        return routingStrategy;
+    }
+
     /**
      * Validate the supported properties.
      */
@@ -1108,6 +1308,14 @@ public class GremlinConnectionProperties extends ConnectionProperties {
                         "SSL encryption must be enabled if IAMSigV4 is used");
             }
         }
+        if (getPaginationMaxThreads() < 1) {
+            throw invalidConnectionPropertyValueError(PAGINATION_MAX_THREADS_KEY,
+                    "At least one pagination thread is required");
+        }
+        if (getColumnDiscoveryRows() < 1) {
+            throw invalidConnectionPropertyValueError(COLUMN_DISCOVERY_ROWS_KEY,
+                    "At least one row is required to discover the columns");
+        }
     }
 
     /**
@@ -16,15 +16,18 @@
 
 package software.aws.neptune.gremlin;
 
+import com.google.common.collect.ImmutableList;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.RequestOptions;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.common.IAMHelper;
 import software.aws.neptune.common.gremlindatamodel.MetadataCache;
+import software.aws.neptune.gremlin.resultset.GremlinColumnRegistry;
 import software.aws.neptune.gremlin.resultset.GremlinResultSet;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetCatalogs;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetColumns;
@@ -32,6 +35,7 @@ import software.aws.neptune.gremlin.resultset.GremlinResultSetGetSchemas;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTableTypes;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTables;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTypeInfo;
+import software.aws.neptune.gremlin.resultset.GremlinStreamingResultSet;
 import software.aws.neptune.jdbc.utilities.AuthScheme;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
@@ -41,25 +45,78 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of QueryExecutor for Gremlin.
  */
 public class GremlinQueryExecutor extends QueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinQueryExecutor.class);
+    // Default maxInProcessPerConnection of the Gremlin driver.
+    private static final int DEFAULT_MAX_IN_PROCESS_PER_CONNECTION = 4;
     private static final Object CLUSTER_LOCK = new Object();
-    private static Cluster cluster = null;
-    private static GremlinConnectionProperties previousGremlinConnectionProperties = null;
+    // Properties used to build a Cluster, connections which agree on all of them share the same Cluster.
+    private static final List<String> CLUSTER_PROPERTY_KEYS = ImmutableList.of(
+            GremlinConnectionProperties.CONTACT_POINT_KEY,
+            GremlinConnectionProperties.READER_ENDPOINTS_KEY,
+            GremlinConnectionProperties.ROUTING_STRATEGY_KEY,
+            GremlinConnectionProperties.PATH_KEY,
+            GremlinConnectionProperties.PORT_KEY,
+            GremlinConnectionProperties.SERIALIZER_KEY,
+            GremlinConnectionProperties.ENABLE_SSL_KEY,
+            GremlinConnectionProperties.SSL_CONTEXT_KEY,
+            GremlinConnectionProperties.SSL_ENABLED_PROTOCOLS_KEY,
+            GremlinConnectionProperties.SSL_CIPHER_SUITES_KEY,
+            GremlinConnectionProperties.SSL_SKIP_VALIDATION_KEY,
+            GremlinConnectionProperties.KEY_STORE_KEY,
+            GremlinConnectionProperties.KEY_STORE_PASSWORD_KEY,
+            GremlinConnectionProperties.KEY_STORE_TYPE_KEY,
+            GremlinConnectionProperties.TRUST_STORE_KEY,
+            GremlinConnectionProperties.TRUST_STORE_PASSWORD_KEY,
+            GremlinConnectionProperties.TRUST_STORE_TYPE_KEY,
+            GremlinConnectionProperties.NIO_POOL_SIZE_KEY,
+            GremlinConnectionProperties.WORKER_POOL_SIZE_KEY,
+            GremlinConnectionProperties.MAX_CONNECTION_POOL_SIZE_KEY,
+            GremlinConnectionProperties.MIN_CONNECTION_POOL_SIZE_KEY,
+            GremlinConnectionProperties.MAX_IN_PROCESS_PER_CONNECTION_KEY,
+            GremlinConnectionProperties.MIN_IN_PROCESS_PER_CONNECTION_KEY,
+            GremlinConnectionProperties.MAX_SIMULT_USAGE_PER_CONNECTION_KEY,
+            GremlinConnectionProperties.MIN_SIMULT_USAGE_PER_CONNECTION_KEY,
+            GremlinConnectionProperties.AUTH_SCHEME_KEY,
+            GremlinConnectionProperties.SERVICE_REGION_KEY,
+            GremlinConnectionProperties.CHANNELIZER_KEY,
+            GremlinConnectionProperties.KEEPALIVE_INTERVAL_KEY,
+            GremlinConnectionProperties.RESULT_ITERATION_BATCH_SIZE_KEY,
+            GremlinConnectionProperties.MAX_WAIT_FOR_CONNECTION_KEY,
+            GremlinConnectionProperties.MAX_WAIT_FOR_CLOSE_KEY,
+            GremlinConnectionProperties.MAX_CONTENT_LENGTH_KEY,
+            GremlinConnectionProperties.VALIDATION_REQUEST_KEY,
+            GremlinConnectionProperties.RECONNECT_INTERVAL_KEY,
+            GremlinConnectionProperties.LOAD_BALANCING_STRATEGY_KEY);
+    // Clusters in use, keyed by cluster identity.
+    private static final Map<Map<String, Object>, ClusterEntry> CLUSTERS = new HashMap<>();
+    // Cluster identity used by each connection. A connection is identified by its properties instance, which is
+    // shared by all of its statements.
+    private static final Map<GremlinConnectionProperties, Map<String, Object>> CONNECTION_CLUSTERS =
+            new IdentityHashMap<>();
     private final Object completableFutureLock = new Object();
     private final GremlinConnectionProperties gremlinConnectionProperties;
     private CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> completableFuture;
+    // Results the query is waiting for, the submitted future completes as soon as the request is sent.
+    private CompletableFuture<List<Result>> resultsFuture;
+    // Set when the query is cancelled, possibly before its request is submitted.
+    private boolean queryCancelled = false;
 
     /**
      * GremlinQueryExecutor constructor.
@@ -81,7 +138,11 @@ public class GremlinQueryExecutor extends QueryExecutor {
             throws SQLException {
         final Cluster.Builder builder = Cluster.build();
 
-        if (properties.containsKey(GremlinConnectionProperties.CONTACT_POINT_KEY)) {
+        final List<String> readerEndpoints = properties.getReaderEndpoints();
+        if (!readerEndpoints.isEmpty()) {
+            // Requests are routed across the readers, see GremlinRouter.
+            readerEndpoints.forEach(builder::addContactPoint);
+        } else if (properties.containsKey(GremlinConnectionProperties.CONTACT_POINT_KEY)) {
             builder.addContactPoint(properties.getContactPoint());
         }
         if (properties.containsKey(GremlinConnectionProperties.PATH_KEY)) {
@@ -193,34 +254,123 @@ public class GremlinQueryExecutor extends QueryExecutor {
         return builder;
     }
 
+    /**
+     * Function to get the identity of the cluster built from the connection properties, made of the properties
+     * which configure the cluster. The contact point is compared case-insensitively.
+     *
+     * @param gremlinConnectionProperties Connection properties.
+     * @return Cluster identity.
+     */
+    static Map<String, Object> getClusterIdentity(final GremlinConnectionProperties gremlinConnectionProperties) {
+        final Map<String, Object> identity = new TreeMap<>();
+        for (final String key : CLUSTER_PROPERTY_KEYS) {
+            if (gremlinConnectionProperties.containsKey(key)) {
+                final Object value = gremlinConnectionProperties.get(key);
+                identity.put(key, GremlinConnectionProperties.CONTACT_POINT_KEY.equals(key)
+                        ? value.toString().trim().toLowerCase(Locale.ROOT)
+                        : value);
+            }
+        }
+        return identity;
+    }
+
     protected static Cluster getCluster(final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
-        if (cluster == null ||
-                !propertiesEqual(previousGremlinConnectionProperties, gremlinConnectionProperties)) {
-            previousGremlinConnectionProperties = gremlinConnectionProperties;
-            return createClusterBuilder(gremlinConnectionProperties).create();
+        synchronized (CLUSTER_LOCK) {
+            return acquireCluster(gremlinConnectionProperties).cluster;
+        }
+    }
+
+    private static ClusterEntry acquireCluster(final GremlinConnectionProperties gremlinConnectionProperties)
+            throws SQLException {
+        final Map<String, Object> identity = getClusterIdentity(gremlinConnectionProperties);
+        final Map<String, Object> previousIdentity = CONNECTION_CLUSTERS.get(gremlinConnectionProperties);
+        if (previousIdentity != null && !previousIdentity.equals(identity)) {
+            // The connection properties changed since the connection started using its cluster.
+            releaseCluster(gremlinConnectionProperties);
+        }
+        ClusterEntry entry = CLUSTERS.get(identity);
+        if (entry == null) {
+            final Cluster.Builder builder = createClusterBuilder(gremlinConnectionProperties);
+            GremlinRouter router = null;
+            if (!gremlinConnectionProperties.containsKey(GremlinConnectionProperties.LOAD_BALANCING_STRATEGY_KEY)) {
+                router = new GremlinRouter(gremlinConnectionProperties.getRoutingStrategy());
+                builder.loadBalancingStrategy(router);
+            }
+            entry = new ClusterEntry(builder.create(), router);
+            CLUSTERS.put(identity, entry);
+        }
+        if (CONNECTION_CLUSTERS.put(gremlinConnectionProperties, identity) == null) {
+            entry.referenceCount++;
+        }
+        return entry;
+    }
+
+    private static void releaseCluster(final GremlinConnectionProperties gremlinConnectionProperties) {
+        final Map<String, Object> identity = CONNECTION_CLUSTERS.remove(gremlinConnectionProperties);
+        if (identity == null) {
+            return;
+        }
+        final ClusterEntry entry = CLUSTERS.get(identity);
+        if (entry != null && --entry.referenceCount == 0) {
+            CLUSTERS.remove(identity);
+            entry.close();
         }
-        return cluster;
     }
 
     /**
-     * Function to close down the cluster.
+     * Function to release the cluster used by a connection. The cluster and its client are closed once no open
+     * connection uses them.
+     *
+     * @param gremlinConnectionProperties Connection properties of the closing connection.
      */
-    public static void close() {
+    public static void close(final GremlinConnectionProperties gremlinConnectionProperties) {
         synchronized (CLUSTER_LOCK) {
-            if (cluster != null) {
-                cluster.close();
-                cluster = null;
-            }
+            releaseCluster(gremlinConnectionProperties);
         }
     }
 
+    /**
+     * Function to get the Client of the cluster matching the connection properties. The Client is initialized on
+     * first use and shared by the connections using the cluster, it must not be closed by the caller.
+     *
+     * @param gremlinConnectionProperties Connection properties of the cluster.
+     * @return Initialized Client.
+     * @throws SQLException if the cluster cannot be created.
+     */
     public static Client getClient(final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
         synchronized (CLUSTER_LOCK) {
-            cluster = getCluster(gremlinConnectionProperties);
-            return cluster.connect().init();
+            final ClusterEntry entry = acquireCluster(gremlinConnectionProperties);
+            if (entry.client == null || entry.client.isClosing()) {
+                entry.client = entry.cluster.connect().init();
+            }
+            return entry.client;
+        }
+    }
+
+    /**
+     * Function to submit a query through the Client of the cluster, measuring it for the routing of the requests.
+     *
+     * @param query          Query to submit.
+     * @param requestOptions Options of the request.
+     * @return Future of the driver ResultSet.
+     * @throws SQLException if the cluster cannot be created.
+     */
+    private CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> submit(
+            final String query, final RequestOptions requestOptions) throws SQLException {
+        final Client client;
+        final GremlinRouter router;
+        synchronized (CLUSTER_LOCK) {
+            client = getClient(gremlinConnectionProperties);
+            router = acquireCluster(gremlinConnectionProperties).router;
+        }
+        final CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> submitted =
+                client.submitAsync(query, requestOptions);
+        if (router != null) {
+            router.track(submitted);
         }
+        return submitted;
     }
 
     /**
@@ -240,27 +390,26 @@ public class GremlinQueryExecutor extends QueryExecutor {
      * @return true if the connection is valid, otherwise false.
      */
     @Override
-    @SneakyThrows
     public boolean isValid(final int timeout) {
         LOGGER.info("Checking timeout " + timeout + ".");
-        final Cluster tempCluster =
-                GremlinQueryExecutor.createClusterBuilder(gremlinConnectionProperties).maxWaitForConnection(timeout * 1000)
-                        .create();
-        final Client tempClient = tempCluster.connect();
         try {
-            tempClient.init();
-
+            // Validate over the pooled connections of the shared Client instead of opening new ones.
             // Neptune doesn't support arbitrary math queries, but the below command is valid in Gremlin and is basically
             // saying return 0.
-            final CompletableFuture<List<Result>> tempCompletableFuture = tempClient.submit("g.inject(0)").all();
-            tempCompletableFuture.get(timeout, TimeUnit.SECONDS);
-
+            final CompletableFuture<List<Result>> tempCompletableFuture =
+                    getClient(gremlinConnectionProperties).submitAsync("g.inject(0)").thenCompose(
+                            org.apache.tinkerpop.gremlin.driver.ResultSet::all);
+            if (timeout == 0) {
+                tempCompletableFuture.get();
+            } else {
+                tempCompletableFuture.get(timeout, TimeUnit.SECONDS);
+            }
             return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Connecting to database failed.", e);
         } catch (final Exception e) {
             LOGGER.error("Connecting to database failed.", e);
-        } finally {
-            tempClient.close();
-            tempCluster.close();
         }
         return false;
     }
@@ -276,9 +425,162 @@ public class GremlinQueryExecutor extends QueryExecutor {
     @Override
     public ResultSet executeQuery(final String sql, final Statement statement) throws SQLException {
         LOGGER.info("GremlinQueryExecutor executeQuery");
-        final Constructor<?> constructor;
         try {
-            constructor = GremlinResultSet.class
+            return runCancellableQuery(getResultSetConstructor(), statement, sql);
+        } finally {
+            clearRunningQuery();
+        }
+    }
+
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
+
+    /**
+     * Function to execute a query with parameters.
+     * <p>
+     * The parameters are sent as request bindings, parameter N is bound to the script variable pN, so the server can
+     * reuse the compiled script for different parameter values.
+     *
+     * @param sql        Query to execute.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @param parameters Values of the parameters, by parameter index.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if query execution fails, or it was cancelled.
+     */
+    @Override
+    public ResultSet executeQuery(final String sql, final Statement statement,
+                                  final Map<Integer, Object> parameters) throws SQLException {
+        LOGGER.info("GremlinQueryExecutor executeQuery with parameters");
+        final Map<String, Object> bindings = new HashMap<>();
+        for (final Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+            bindings.put(getBindingName(parameter.getKey()), parameter.getValue());
+        }
+        try {
+            return runCancellableQuery(getResultSetConstructor(), statement, sql, bindings);
+        } finally {
+            clearRunningQuery();
+        }
+    }
+
+    private void clearRunningQuery() {
+        // A cancel is only requested while the query is in progress, it does not carry over to the next query.
+        synchronized (completableFutureLock) {
+            completableFuture = null;
+            resultsFuture = null;
+            queryCancelled = false;
+        }
+    }
+
+    /**
+     * Function to execute query without blocking the calling thread, the query is submitted with
+     * {@link Client#submitAsync(String, RequestOptions)} and its ResultSet is built by the thread receiving the
+     * results.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return CompletableFuture of the java.sql.ResultSet returned from query execution.
+     * @throws SQLException if the query cannot be submitted.
+     */
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql, final Statement statement)
+            throws SQLException {
+        LOGGER.info("GremlinQueryExecutor executeQueryAsync");
+        final CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> submitted =
+                submit(sql, createRequestOptions(Collections.emptyMap()));
+        final CompletableFuture<java.sql.ResultSet> query;
+        if (gremlinConnectionProperties.getStreamResults()) {
+            final int columnDiscoveryRows = gremlinConnectionProperties.getColumnDiscoveryRows();
+            final int pageSize = getFetchSize();
+            query = submitted.thenCompose(resultSet -> resultSet.some(columnDiscoveryRows)
+                    .thenApply(firstResults -> new GremlinStreamingResultSet(statement,
+                            GremlinStreamingResultSet.ResultSetInfoWithStream.discover(resultSet, firstResults,
+                                    pageSize))));
+        } else {
+            query = submitted.thenCompose(org.apache.tinkerpop.gremlin.driver.ResultSet::all)
+                    .thenApply(results -> {
+                        try {
+                            return new GremlinResultSet(statement, toResultSetInfo(results));
+                        } catch (final SQLException e) {
+                            throw new CompletionException(e);
+                        }
+                    });
+        }
+        return toCancellableFuture(query, () -> submitted.cancel(true));
+    }
+
+    @Override
+    public boolean supportsBatch() {
+        return true;
+    }
+
+    /**
+     * Function to execute a batch of queries over the pooled connections. At most maxInProcessPerConnection
+     * queries of the batch are in flight at a time, a query is only submitted once the one this many places before
+     * it has completed. Once batchCancellation is cancelled, the remaining queries are not submitted and their futures
+     * are cancelled.
+     *
+     * @param queries           Queries to execute.
+     * @param statement         java.sql.Statement Object required for result set.
+     * @param batchCancellation Future which is cancelled to cancel the batch.
+     * @return CompletableFuture of the java.sql.ResultSet of each query, in the order of the queries.
+     * @throws SQLException if the queries cannot be submitted.
+     */
+    @Override
+    public List<CompletableFuture<java.sql.ResultSet>> executeBatch(final List<String> queries,
+                                                                    final Statement statement,
+                                                                    final CompletableFuture<Void> batchCancellation)
+            throws SQLException {
+        LOGGER.info("GremlinQueryExecutor executeBatch of {} queries", queries.size());
+        final int maxInProcess = gremlinConnectionProperties.getMaxInProcessPerConnection() > 0
+                ? gremlinConnectionProperties.getMaxInProcessPerConnection()
+                : DEFAULT_MAX_IN_PROCESS_PER_CONNECTION;
+        final List<CompletableFuture<java.sql.ResultSet>> futures = new ArrayList<>(queries.size());
+        for (final String query : queries) {
+            if (futures.size() >= maxInProcess) {
+                awaitCompletion(futures.get(futures.size() - maxInProcess), futures);
+            }
+            final CompletableFuture<java.sql.ResultSet> future = batchCancellation.isCancelled()
+                    ? new CompletableFuture<>()
+                    : executeQueryAsync(query, statement);
+            // Runs immediately if the batch is already cancelled.
+            batchCancellation.whenComplete((ignored, e) -> future.cancel(true));
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    private static void awaitCompletion(final CompletableFuture<java.sql.ResultSet> future,
+                                        final List<CompletableFuture<java.sql.ResultSet>> futures)
+            throws SQLException {
+        try {
+            future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(submitted -> submitted.cancel(true));
+            throw SqlError.createSQLException(LOGGER, SqlState.OPERATION_CANCELED, SqlError.QUERY_CANCELED);
+        } catch (final ExecutionException | CancellationException e) {
+            // The failure is reported when the results of the batch are read.
+        }
+    }
+
+    /**
+     * Function to get the name of the script variable a parameter is bound to.
+     *
+     * @param parameterIndex Index of the parameter, starting at 1.
+     * @return Name of the script variable.
+     */
+    public static String getBindingName(final int parameterIndex) {
+        return "p" + parameterIndex;
+    }
+
+    private Constructor<?> getResultSetConstructor() throws SQLException {
+        try {
+            return gremlinConnectionProperties.getStreamResults()
+                    ? GremlinStreamingResultSet.class.getConstructor(java.sql.Statement.class,
+                    GremlinStreamingResultSet.ResultSetInfoWithStream.class)
+                    : GremlinResultSet.class
                     .getConstructor(java.sql.Statement.class, GremlinResultSet.ResultSetInfoWithRows.class);
         } catch (final NoSuchMethodException e) {
             throw SqlError.createSQLException(
@@ -286,7 +588,6 @@ public class GremlinQueryExecutor extends QueryExecutor {
                     SqlState.INVALID_QUERY_EXPRESSION,
                     SqlError.QUERY_FAILED, e);
         }
-        return runCancellableQuery(constructor, statement, sql);
     }
 
     /**
@@ -389,79 +690,122 @@ public class GremlinQueryExecutor extends QueryExecutor {
         return new GremlinResultSetGetTypeInfo(statement);
     }
 
-    @SneakyThrows
     @Override
-    @SuppressWarnings("unchecked")
     protected <T> T runQuery(final String query) throws SQLException {
-        final Client client = getClient(gremlinConnectionProperties);
+        return submitQuery(query, Collections.emptyMap());
+    }
+
+    @Override
+    protected <T> T runQuery(final String query, final Map<String, Object> parameters) throws SQLException {
+        // Without parameters, go through runQuery(String) so subclasses overriding it keep working.
+        return parameters.isEmpty() ? runQuery(query) : submitQuery(query, parameters);
+    }
 
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private <T> T submitQuery(final String query, final Map<String, Object> bindings) throws SQLException {
+        final CompletableFuture<org.apache.tinkerpop.gremlin.driver.ResultSet> submitted =
+                submit(query, createRequestOptions(bindings));
+        final boolean streamResults = gremlinConnectionProperties.getStreamResults();
+        // When streaming, only wait for the results used to discover the columns, the rest is retrieved by the
+        // ResultSet.
+        final CompletableFuture<List<Result>> results = submitted.thenCompose(resultSet -> streamResults
+                ? resultSet.some(gremlinConnectionProperties.getColumnDiscoveryRows())
+                : resultSet.all());
         synchronized (completableFutureLock) {
-            completableFuture = client.submitAsync(query);
+            completableFuture = submitted;
+            resultsFuture = results;
+            if (queryCancelled) {
+                // Cancelled while the request was being submitted, which can take a while for the first query.
+                results.cancel(true);
+            }
         }
 
-        final List<Result> results = completableFuture.get().all().get();
-        final List<Map<String, Object>> rows = new ArrayList<>();
-        final Map<String, Class<?>> columns = new HashMap<>();
-        long unnamedColumnIndex = 0L;
-        for (final Object result : results.stream().map(Result::getObject).collect(Collectors.toList())) {
-            if (result instanceof LinkedHashMap) {
-                // We don't know key or value types, so pull it out raw.
-                final Map<?, ?> uncastedRow = (LinkedHashMap<?, ?>) result;
+        if (streamResults) {
+            final List<Result> firstResults = results.get();
+            return (T) GremlinStreamingResultSet.ResultSetInfoWithStream.discover(submitted.get(), firstResults,
+                    getFetchSize());
+        }
+        return (T) toResultSetInfo(results.get());
+    }
 
-                // Convert generic key types to string and insert in new map with corresponding value.
-                final Map<String, Object> row = new HashMap<>();
-                uncastedRow.forEach((key, value) -> row.put(key.toString(), value));
+    private RequestOptions createRequestOptions(final Map<String, Object> bindings) {
+        final RequestOptions.Builder requestOptions = RequestOptions.build();
+        bindings.forEach(requestOptions::addParameter);
+        final long timeoutMillis = getQueryTimeoutMillis();
+        if (timeoutMillis > 0) {
+            // Sent as the evaluationTimeout of the request, so the server stops the query when the timeout expires.
+            requestOptions.timeout(timeoutMillis);
+        }
+        return requestOptions.create();
+    }
 
-                // Add row to List of rows.
-                rows.add(row);
+    private GremlinResultSet.ResultSetInfoWithRows toResultSetInfo(final List<Result> results)
+            throws SQLException {
+        final List<Object[]> rows = new ArrayList<>(results.size());
+        final GremlinColumnRegistry columns = new GremlinColumnRegistry();
+        long unnamedColumnIndex = 0L;
+        for (final Result resultObject : results) {
+            final Object result = resultObject.getObject();
+            if (result instanceof Map) {
+                // We don't know key or value types, so pull it out raw.
+                final Map<?, ?> uncastedRow = (Map<?, ?>) result;
+
+                // Get the column of each key, adding the columns which are not already there.
+                final int[] indexes = new int[uncastedRow.size()];
+                int i = 0;
+                for (final Map.Entry<?, ?> entry : uncastedRow.entrySet()) {
+                    indexes[i] = columns.addColumn(entry.getKey());
+                    columns.addValue(indexes[i], entry.getValue());
+                    i++;
+                }
 
-                // Get columns from row and put in columns List if they aren't already in there.
-                for (final String key : row.keySet()) {
-                    if (!columns.containsKey(key)) {
-                        final Object value = row.get(key);
-                        if (GremlinTypeMapping.checkContains(value.getClass())) {
-                            columns.put(key, value.getClass());
-                        } else {
-                            columns.put(key, String.class);
-                        }
-                    } else if (columns.get(key) != row.get(key)) {
-                        columns.put(key, String.class);
-                    }
+                // Store the values by column index.
+                final Object[] row = new Object[columns.size()];
+                i = 0;
+                for (final Object value : uncastedRow.values()) {
+                    row[indexes[i++]] = value;
                 }
-            } else if (GremlinTypeMapping.checkContains(result.getClass())) {
+                rows.add(row);
+            } else if (result != null && GremlinTypeMapping.checkContains(result.getClass())) {
                 // Result is scalar - generate a new key for the column
                 unnamedColumnIndex = findNextValidColumnIndex(columns, unnamedColumnIndex);
-                final String key = generateColumnKey(unnamedColumnIndex);
-                columns.put(key, result.getClass());
+                final int index = columns.addColumn(generateColumnKey(unnamedColumnIndex));
+                columns.addValue(index, result);
 
                 // Create and add new row with generated key
-                final Map<String, Object> row = new HashMap<>();
-                row.put(key, result);
+                final Object[] row = new Object[columns.size()];
+                row[index] = result;
                 rows.add(row);
             } else {
                 // If not a map nor scalar best way to handle it seems to be to issue a warning.
                 LOGGER.warn(String.format("Result of type '%s' is not convertible to a Map or Scalar of supported type and will be skipped.",
-                        result.getClass().getCanonicalName()));
+                        result == null ? null : result.getClass().getCanonicalName()));
             }
         }
 
-        final List<String> listColumns = new ArrayList<>(columns.keySet());
-        return (T) new GremlinResultSet.ResultSetInfoWithRows(rows, columns, listColumns);
+        return new GremlinResultSet.ResultSetInfoWithRows(rows, columns.getColumnTypes(), columns.getColumns());
     }
 
     @Override
     protected void performCancel() throws SQLException {
         synchronized (completableFutureLock) {
+            queryCancelled = true;
             if (completableFuture != null && !completableFuture.isDone()) {
                 completableFuture.cancel(true);
             }
+            // Wakes up the waiting query, it does not wait for the server to report the cancellation or timeout.
+            if (resultsFuture != null && !resultsFuture.isDone()) {
+                resultsFuture.cancel(true);
+            }
         }
     }
 
-    private long findNextValidColumnIndex(@NonNull final Map<String, Class<?>> columns, final long currentIndex) throws SQLException {
+    private long findNextValidColumnIndex(@NonNull final GremlinColumnRegistry columns, final long currentIndex)
+            throws SQLException {
         long index = currentIndex;
         // While there is a conflict with an existing key increment and regenerate the column key
-        while (columns.containsKey(generateColumnKey(index))) {
+        while (columns.contains(generateColumnKey(index))) {
             if (index == Long.MAX_VALUE) {
                 LOGGER.error(String.format("Reached the maximum number of column keys available for scalar columns: %d",
                         index));
@@ -478,4 +822,27 @@ public class GremlinQueryExecutor extends QueryExecutor {
     private String generateColumnKey(@NonNull final Long unnamedColumnIndex) {
         return String.format("_col%d", unnamedColumnIndex);
     }
+
+    /**
+     * Cluster shared by the connections with the same cluster identity, with the number of connections using it.
+     */
+    private static class ClusterEntry {
+        private final Cluster cluster;
+        // Null if a load balancing strategy was set on the connection.
+        private final GremlinRouter router;
+        private Client client = null;
+        private int referenceCount = 0;
+
+        ClusterEntry(final Cluster cluster, final GremlinRouter router) {
+            this.cluster = cluster;
+            this.router = router;
+        }
+
+        void close() {
+            if (client != null) {
+                client.close();
+            }
+            cluster.close();
+        }
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import lombok.NonNull;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.Host;
+import org.apache.tinkerpop.gremlin.driver.LoadBalancingStrategy;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Gremlin driver load balancing strategy which routes requests across the hosts of a cluster, such as the reader
+ * endpoints of a Neptune cluster, following a {@link GremlinRoutingStrategy}.
+ * <p>
+ * For each request, the available hosts are ordered by the strategy and the driver sends the request to the first
+ * host it can borrow a connection from. The requests in flight and the latency of each host are measured from the
+ * requests sent by the driver, see {@link #track(CompletableFuture)}, so no extra requests are needed. Hosts the
+ * driver marks as unavailable are skipped until they are available again.
+ */
+public class GremlinRouter implements LoadBalancingStrategy {
+    // Weight of the latest latency in the moving average latency of a host.
+    private static final double EWMA_WEIGHT = 0.3;
+    private final GremlinRoutingStrategy strategy;
+    private final CopyOnWriteArrayList<Host> hosts = new CopyOnWriteArrayList<>();
+    private final Map<Host, HostStats> hostStats = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * GremlinRouter constructor.
+     *
+     * @param strategy Strategy used to order the hosts.
+     */
+    public GremlinRouter(@NonNull final GremlinRoutingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void initialize(final Cluster cluster, final Collection<Host> initialHosts) {
+        hosts.addAllAbsent(initialHosts.stream().filter(Host::isAvailable).collect(Collectors.toList()));
+    }
+
+    @Override
+    public Iterator<Host> select(final RequestMessage msg) {
+        final List<Host> available = hosts.stream().filter(Host::isAvailable).collect(Collectors.toList());
+        if (available.isEmpty()) {
+            return Collections.emptyIterator();
+        }
+        return order(available, nextIndex.getAndIncrement(), this::getHostStats).iterator();
+    }
+
+    /**
+     * Function to order the hosts a request can be sent to, in the order they should be tried.
+     *
+     * @param available Available hosts.
+     * @param index     Index of the request, used to rotate the hosts.
+     * @param statsOf   Function to get the statistics of a host.
+     * @param <T>       Type of the hosts.
+     * @return Ordered hosts.
+     */
+    <T> List<T> order(final List<T> available, final int index, final Function<T, HostStats> statsOf) {
+        // Hosts are rotated first, so hosts with equal statistics take turns.
+        final int start = Math.floorMod(index, available.size());
+        final List<T> ordered = new ArrayList<>(available.size());
+        ordered.addAll(available.subList(start, available.size()));
+        ordered.addAll(available.subList(0, start));
+        if (strategy == GremlinRoutingStrategy.RoundRobin) {
+            return ordered;
+        }
+        // Statistics change while requests complete, sort on a snapshot of them.
+        final Map<T, Double> scores = new HashMap<>();
+        for (final T host : ordered) {
+            final HostStats stats = statsOf.apply(host);
+            scores.put(host, strategy == GremlinRoutingStrategy.LeastInFlight
+                    ? (double) stats.getInFlight()
+                    : stats.getScore());
+        }
+        ordered.sort(Comparator.comparingDouble(scores::get));
+        return ordered;
+    }
+
+    /**
+     * Function to measure a request submitted through the driver using this router. The request is in flight on
+     * its host from when it is written until all its results are received.
+     *
+     * @param submitted Future returned by the driver when the request was submitted.
+     */
+    public void track(final CompletableFuture<ResultSet> submitted) {
+        final long start = System.nanoTime();
+        submitted.thenAccept(resultSet -> {
+            final Host host = resultSet.getHost();
+            if (host == null) {
+                return;
+            }
+            final HostStats stats = getHostStats(host);
+            stats.requestStarted();
+            resultSet.allItemsAvailableAsync().whenComplete((ignored, error) ->
+                    stats.requestCompleted(System.nanoTime() - start));
+        });
+    }
+
+    private HostStats getHostStats(final Host host) {
+        return hostStats.computeIfAbsent(host, key -> new HostStats());
+    }
+
+    @Override
+    public void onAvailable(final Host host) {
+        // Hosts can become available on several driver threads at once, a host is only listed once.
+        hosts.addIfAbsent(host);
+    }
+
+    @Override
+    public void onUnavailable(final Host host) {
+        hosts.remove(host);
+    }
+
+    @Override
+    public void onNew(final Host host) {
+        onAvailable(host);
+    }
+
+    @Override
+    public void onRemove(final Host host) {
+        hosts.remove(host);
+        hostStats.remove(host);
+    }
+
+    /**
+     * Requests in flight and moving average latency of a host.
+     */
+    static class HostStats {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        // Negative until the first request of the host completes.
+        private double latencyNanos = -1;
+
+        void requestStarted() {
+            inFlight.incrementAndGet();
+        }
+
+        synchronized void requestCompleted(final long requestLatencyNanos) {
+            inFlight.decrementAndGet();
+            latencyNanos = (latencyNanos < 0)
+                    ? requestLatencyNanos
+                    : EWMA_WEIGHT * requestLatencyNanos + (1 - EWMA_WEIGHT) * latencyNanos;
+        }
+
+        int getInFlight() {
+            return inFlight.get();
+        }
+
+        synchronized double getLatencyNanos() {
+            return latencyNanos;
+        }
+
+        /**
+         * Function to get the expected latency of a new request on the host. Hosts without completed requests
+         * score 0, so they are tried and measured first.
+         *
+         * @return Score of the host, lower is better.
+         */
+        double getScore() {
+            final double latency = getLatencyNanos();
+            return latency < 0 ? 0 : latency * (getInFlight() + 1);
+        }
+    }
+}
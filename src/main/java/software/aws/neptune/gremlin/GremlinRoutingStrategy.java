@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import lombok.NonNull;
+
+/**
+ * Strategy used to route Gremlin requests across the hosts of a cluster, see {@link GremlinRouter}.
+ */
+public enum GremlinRoutingStrategy {
+    // Each request starts with the next host in turn.
+    RoundRobin("RoundRobin"),
+    // Requests go to the host with the fewest requests in flight.
+    LeastInFlight("LeastInFlight"),
+    // Requests go to the host with the lowest moving average latency, weighted by its requests in flight.
+    EwmaLatency("EwmaLatency");
+
+    private final String stringValue;
+
+    GremlinRoutingStrategy(@NonNull final String stringValue) {
+        this.stringValue = stringValue;
+    }
+
+    /**
+     * Converts case-insensitive string to enum value.
+     *
+     * @param in The case-insensitive string to be converted to enum.
+     * @return The enum value if string is recognized as a valid value, otherwise null.
+     */
+    public static GremlinRoutingStrategy fromString(@NonNull final String in) {
+        for (final GremlinRoutingStrategy strategy : GremlinRoutingStrategy.values()) {
+            if (strategy.stringValue.equalsIgnoreCase(in)) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        return this.stringValue;
+    }
+}
@@ -89,6 +89,11 @@ public class SqlConverter {
         return getSelect(g, query).executeTraversal();
     }
 
+    public SqlGremlinQueryResult executeQuery(final GraphTraversalSource g, final String query, final int fetchSize,
+                                              final boolean adaptiveFetchSize) throws SQLException {
+        return getSelect(g, query).executeTraversal(fetchSize, adaptiveFetchSize);
+    }
+
     private GraphTraversal<?, ?> getGraphTraversal(GraphTraversalSource g, final String query) throws SQLException {
         return getSelect(g, query).generateTraversal();
     }
@@ -54,6 +54,19 @@ public abstract class GremlinSqlSelect extends GremlinSqlNode {
     }
 
     public SqlGremlinQueryResult executeTraversal() throws SQLException {
+        return executeTraversal(0, false);
+    }
+
+    /**
+     * Generates and launches the traversal, paginating the results in the background.
+     *
+     * @param fetchSize         Requested fetch size, 0 to use the default page size.
+     * @param adaptiveFetchSize Whether the page size should grow while the consumer keeps pace.
+     * @return SqlGremlinQueryResult which is filled as the pages are retrieved.
+     * @throws SQLException if the traversal cannot be generated.
+     */
+    public SqlGremlinQueryResult executeTraversal(final int fetchSize, final boolean adaptiveFetchSize)
+            throws SQLException {
         GraphTraversal<?, ?> graphTraversal = null;
         try {
             sqlMetadata.checkAggregate(sqlSelect.getSelectList());
@@ -62,7 +75,8 @@ public abstract class GremlinSqlSelect extends GremlinSqlNode {
             applyDistinct(graphTraversal);
             applyOffset(graphTraversal);
             applyLimit(graphTraversal);
-            final SqlGremlinQueryResult sqlGremlinQueryResult = generateSqlGremlinQueryResult();
+            final SqlGremlinQueryResult sqlGremlinQueryResult =
+                    generateSqlGremlinQueryResult(fetchSize, adaptiveFetchSize);
             runTraversalExecutor(graphTraversal, sqlGremlinQueryResult);
             return sqlGremlinQueryResult;
         } catch (final SQLException e) {
@@ -76,10 +90,11 @@ public abstract class GremlinSqlSelect extends GremlinSqlNode {
         }
     }
 
-    private SqlGremlinQueryResult generateSqlGremlinQueryResult() throws SQLException {
+    private SqlGremlinQueryResult generateSqlGremlinQueryResult(final int fetchSize, final boolean adaptiveFetchSize)
+            throws SQLException {
         final List<String> columns = new ArrayList<>();
         sqlMetadata.getColumnOutputListMap().forEach((key, value) -> columns.addAll(value));
-        return new SqlGremlinQueryResult(columns, sqlMetadata);
+        return new SqlGremlinQueryResult(columns, sqlMetadata, fetchSize, adaptiveFetchSize);
 
     }
 
@@ -16,7 +16,6 @@
 
 package software.aws.neptune.gremlin.adapter.converter.ast.nodes.select;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.calcite.sql.JoinConditionType;
 import org.apache.calcite.sql.JoinType;
 import org.apache.calcite.sql.SqlBasicCall;
@@ -47,6 +46,7 @@ import software.aws.neptune.gremlin.adapter.converter.schema.gremlin.GremlinTabl
 import software.aws.neptune.gremlin.adapter.results.SqlGremlinQueryResult;
 import software.aws.neptune.gremlin.adapter.results.pagination.JoinDataReader;
 import software.aws.neptune.gremlin.adapter.results.pagination.Pagination;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationExecutor;
 import software.aws.neptune.gremlin.adapter.util.SQLNotSupportedException;
 import software.aws.neptune.gremlin.adapter.util.SqlGremlinError;
 
@@ -54,8 +54,6 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import static software.aws.neptune.gremlin.adapter.converter.ast.nodes.GremlinSqlFactory.createNode;
@@ -85,15 +83,13 @@ public class GremlinSqlSelectMulti extends GremlinSqlSelect {
     @Override
     protected void runTraversalExecutor(final GraphTraversal<?, ?> graphTraversal,
                                         final SqlGremlinQueryResult sqlGremlinQueryResult) throws SQLException {
-        // Launch thread to continue grabbing results.
-        final ExecutorService executor = Executors.newSingleThreadExecutor(
-                new ThreadFactoryBuilder().setNameFormat("Data-Insert-Thread-%d").setDaemon(true).build());
         final Map<String, List<String>> tableColumns = sqlMetadata.getColumnOutputListMap();
         if (tableColumns.keySet().size() > 2) {
             throw SqlGremlinError.create(SqlGremlinError.JOIN_TABLE_COUNT);
         }
-        executor.execute(new Pagination(new JoinDataReader(tableColumns), graphTraversal, sqlGremlinQueryResult));
-        executor.shutdown();
+        // Continue grabbing results in the background.
+        sqlGremlinQueryResult.setPaginationTask(PaginationExecutor.execute(
+                new Pagination(new JoinDataReader(tableColumns), graphTraversal, sqlGremlinQueryResult)));
     }
 
     @Override
@@ -16,7 +16,6 @@
 
 package software.aws.neptune.gremlin.adapter.converter.ast.nodes.select;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.calcite.sql.SqlBasicCall;
 import org.apache.calcite.sql.SqlIdentifier;
 import org.apache.calcite.sql.SqlKind;
@@ -44,6 +43,7 @@ import software.aws.neptune.gremlin.adapter.converter.ast.nodes.operator.logic.G
 import software.aws.neptune.gremlin.adapter.converter.schema.gremlin.GremlinTableBase;
 import software.aws.neptune.gremlin.adapter.results.SqlGremlinQueryResult;
 import software.aws.neptune.gremlin.adapter.results.pagination.Pagination;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationExecutor;
 import software.aws.neptune.gremlin.adapter.results.pagination.SimpleDataReader;
 import software.aws.neptune.gremlin.adapter.util.SqlGremlinError;
 
@@ -51,8 +51,6 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * This module is a GremlinSql equivalent of Calcite's SqlSelect for a non-JOIN operation.
@@ -79,17 +77,14 @@ public class GremlinSqlSelectSingle extends GremlinSqlSelect {
     @Override
     protected void runTraversalExecutor(final GraphTraversal<?, ?> graphTraversal,
                                         final SqlGremlinQueryResult sqlGremlinQueryResult) throws SQLException {
-        // Launch thread to continue grabbing results.
-        final ExecutorService executor = Executors.newSingleThreadExecutor(
-                new ThreadFactoryBuilder().setNameFormat("Data-Insert-Thread-%d").setDaemon(true).build());
         final List<List<String>> columns = new ArrayList<>(sqlMetadata.getColumnOutputListMap().values());
         if (columns.size() != 1) {
             throw SqlGremlinError.create(SqlGremlinError.SINGLE_SELECT_MULTI_RETURN);
         }
-        executor.execute(new Pagination(new SimpleDataReader(
+        // Continue grabbing results in the background.
+        sqlGremlinQueryResult.setPaginationTask(PaginationExecutor.execute(new Pagination(new SimpleDataReader(
                 sqlMetadata.getRenameFromActual(sqlMetadata.getTables().iterator().next().getLabel()), columns.get(0)),
-                graphTraversal, sqlGremlinQueryResult));
-        executor.shutdown();
+                graphTraversal, sqlGremlinQueryResult)));
     }
 
     @Override
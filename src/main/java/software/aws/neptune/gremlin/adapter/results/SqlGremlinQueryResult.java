@@ -16,29 +16,129 @@
 
 package software.aws.neptune.gremlin.adapter.results;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.aws.neptune.gremlin.adapter.converter.SqlMetadata;
+import software.aws.neptune.gremlin.adapter.results.pagination.Pagination;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationExecutor;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationMetrics;
+import software.aws.neptune.gremlin.adapter.util.SqlGremlinError;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 @Getter
 public class SqlGremlinQueryResult implements AutoCloseable {
     public static final String EMPTY_MESSAGE = "No more results.";
     public static final String NULL_VALUE = "$%#NULL#%$";
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+    public static final int ADAPTIVE_INITIAL_PAGE_SIZE = 100;
+    public static final int ADAPTIVE_MAX_PAGE_SIZE = 10000;
+    // Number of fetched pages waiting to be converted, bounding how far fetching can run ahead of the consumer.
+    public static final int PREFETCH_PAGES = 2;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlGremlinQueryResult.class);
+    private static final Supplier<List<Object[]>> END_OF_RESULT = Collections::emptyList;
     private final List<String> columns;
     private final List<String> columnTypes = new ArrayList<>();
-    private final BlockingQueue<List<Object>> blockingQueueRows = new LinkedBlockingQueue<>();
-    private SQLException paginationException = null;
+    @Getter(AccessLevel.NONE)
+    private final BlockingQueue<Supplier<List<Object[]>>> blockingQueuePages =
+            new ArrayBlockingQueue<>(PREFETCH_PAGES);
+    private final PaginationMetrics paginationMetrics = new PaginationMetrics();
+    private final boolean adaptivePageSize;
+    private volatile SQLException paginationException = null;
+    private volatile boolean cancelled = false;
+    private volatile boolean paginationComplete = false;
+    @Getter(AccessLevel.NONE)
+    private volatile Future<?> paginationTask = null;
+    private volatile int pageSize;
+    @Getter(AccessLevel.NONE)
+    private boolean firstPage = true;
+    // Converted page being consumed, only accessed by the consumer.
+    @Getter(AccessLevel.NONE)
+    private List<Object[]> currentPage = null;
+    @Getter(AccessLevel.NONE)
+    private int currentPageIndex = 0;
+    @Getter(AccessLevel.NONE)
+    private boolean endOfResult = false;
+    @Getter(AccessLevel.NONE)
+    private final Object pageLock = new Object();
+    // Page fetched while PREFETCH_PAGES pages were waiting, with the Pagination suspended until it is handed over.
+    @Getter(AccessLevel.NONE)
+    private Supplier<List<Object[]>> pendingPage = null;
+    @Getter(AccessLevel.NONE)
+    private Pagination suspendedPagination = null;
+    @Getter(AccessLevel.NONE)
+    private long suspendedSince = 0L;
 
     public SqlGremlinQueryResult(final List<String> columns, final SqlMetadata sqlMetadata) throws SQLException {
+        this(columns, sqlMetadata, 0, false);
+    }
+
+    /**
+     * SqlGremlinQueryResult constructor.
+     *
+     * @param columns          Columns of the result.
+     * @param sqlMetadata      SqlMetadata used to resolve the column types.
+     * @param fetchSize        Requested fetch size, 0 to use the default page size.
+     * @param adaptivePageSize Whether the page size should grow while the consumer keeps pace.
+     * @throws SQLException if a column type cannot be resolved.
+     */
+    public SqlGremlinQueryResult(final List<String> columns, final SqlMetadata sqlMetadata, final int fetchSize,
+                                 final boolean adaptivePageSize) throws SQLException {
         this.columns = columns;
         for (final String column : columns) {
             columnTypes.add(sqlMetadata.getType(column));
         }
+        this.adaptivePageSize = adaptivePageSize;
+        this.pageSize = getInitialPageSize(fetchSize, adaptivePageSize);
+    }
+
+    /**
+     * Gets the size of the first page retrieved for a query.
+     *
+     * @param fetchSize        Requested fetch size, 0 to use the default page size.
+     * @param adaptivePageSize Whether the page size should grow while the consumer keeps pace.
+     * @return Initial page size.
+     */
+    public static int getInitialPageSize(final int fetchSize, final boolean adaptivePageSize) {
+        if (fetchSize > 0) {
+            return fetchSize;
+        }
+        return adaptivePageSize ? ADAPTIVE_INITIAL_PAGE_SIZE : DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Sets the page size used for the pages which have not been retrieved yet.
+     *
+     * @param pageSize Page size, ignored if not positive.
+     */
+    public void setPageSize(final int pageSize) {
+        if (pageSize > 0) {
+            this.pageSize = pageSize;
+        }
+    }
+
+    /**
+     * Gets the size of the next page to retrieve. In adaptive mode, the page size is doubled (up to
+     * ADAPTIVE_MAX_PAGE_SIZE) whenever the consumer has drained every row of the previous pages.
+     *
+     * @return Size of the next page.
+     */
+    public int nextPageSize() {
+        if (firstPage) {
+            firstPage = false;
+        } else if (adaptivePageSize && pageSize < ADAPTIVE_MAX_PAGE_SIZE && blockingQueuePages.isEmpty()) {
+            pageSize = Math.min(pageSize * 2, ADAPTIVE_MAX_PAGE_SIZE);
+        }
+        return pageSize;
     }
 
     public void setPaginationException(final SQLException e) {
@@ -46,34 +146,157 @@ public class SqlGremlinQueryResult implements AutoCloseable {
         close();
     }
 
+    /**
+     * Sets the task paginating this result, so that it can be interrupted on cancellation.
+     *
+     * @param paginationTask Future of the Pagination.
+     */
+    public void setPaginationTask(final Future<?> paginationTask) {
+        this.paginationTask = paginationTask;
+        if (cancelled) {
+            paginationTask.cancel(true);
+        }
+    }
+
+    /**
+     * Cancels the query: interrupts the Pagination (which closes the traversal, also when it is suspended), releases
+     * the buffered pages and unblocks any consumer waiting in getResult(), which then throws.
+     */
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        paginationException = SqlGremlinError.create(SqlGremlinError.QUERY_CANCELED);
+        cancelled = true;
+        final Future<?> task = paginationTask;
+        if (task != null) {
+            task.cancel(true);
+        }
+        paginationComplete = true;
+        synchronized (pageLock) {
+            pendingPage = null;
+            if (suspendedPagination != null) {
+                suspendedPagination.closeTraversal();
+                suspendedPagination = null;
+            }
+        }
+        blockingQueuePages.clear();
+        // Does not block, the consumer only needs one element to wake up and see the cancellation.
+        blockingQueuePages.offer(END_OF_RESULT);
+    }
+
+    /**
+     * Signals that the Pagination is over, without blocking. If the consumer has no room for the signal, it sees
+     * that the Pagination is complete once it has drained the waiting pages.
+     */
     @Override
     public void close() {
-        blockingQueueRows.add(new EmptyResult());
+        paginationComplete = true;
+        blockingQueuePages.offer(END_OF_RESULT);
     }
 
-    public void addResults(final List<List<Object>> rows) {
-        // This is a workaround for Gremlin null support not being in any version of Gremlin that is
-        // widely supported by database vendors.
-        rows.forEach(row -> row.replaceAll(col -> (col instanceof String && col.equals(NULL_VALUE) ? null : col)));
-        blockingQueueRows.addAll(rows);
+    /**
+     * Hands a fetched page over to the consumer without blocking. The page is converted by the consumer, so that the
+     * next page is fetched in the meantime. If PREFETCH_PAGES pages are already waiting, the page is kept and the
+     * Pagination has to stop: it is resubmitted once the consumer takes a page, so that it does not hold a thread
+     * while the consumer is not reading. The page is dropped if the query is cancelled.
+     *
+     * @param page       Supplier converting the page to rows.
+     * @param pagination Pagination fetching the pages.
+     * @return true if the Pagination can fetch the next page, false if it has to stop until it is resubmitted.
+     */
+    public boolean addPage(final Supplier<List<Object[]>> page, final Pagination pagination) {
+        synchronized (pageLock) {
+            if (cancelled || blockingQueuePages.offer(page)) {
+                return true;
+            }
+            pendingPage = page;
+            suspendedPagination = pagination;
+            suspendedSince = System.nanoTime();
+            return false;
+        }
     }
 
-    public List<Object> getResult() throws SQLException {
+    /**
+     * Hands the page kept by a suspended Pagination over, now that the consumer took a page, and resubmits it.
+     *
+     * @throws SQLException if the Pagination cannot be resubmitted.
+     */
+    private void resumePagination() throws SQLException {
+        final Pagination pagination;
+        synchronized (pageLock) {
+            if (suspendedPagination == null) {
+                return;
+            }
+            // Only the consumer takes pages, there is room for the page it just took.
+            blockingQueuePages.offer(pendingPage);
+            paginationMetrics.recordFetchWait(System.nanoTime() - suspendedSince);
+            pagination = suspendedPagination;
+            pendingPage = null;
+            suspendedPagination = null;
+        }
+        try {
+            setPaginationTask(PaginationExecutor.execute(pagination));
+        } catch (final SQLException e) {
+            pagination.closeTraversal();
+            setPaginationException(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the next row, waiting for it to be retrieved if needed.
+     *
+     * @return Values of the row, or null once all rows have been returned.
+     * @throws SQLException if the pagination failed or the query was cancelled.
+     */
+    public Object[] getResult() throws SQLException {
         while (true) {
-            try {
-                final List<Object> result = blockingQueueRows.take();
+            if (cancelled) {
+                currentPage = null;
+                throw paginationException;
+            }
+            if (currentPage != null && currentPageIndex < currentPage.size()) {
+                return currentPage.get(currentPageIndex++);
+            }
+            currentPage = null;
+            if (endOfResult) {
+                return null;
+            }
+            final Supplier<List<Object[]>> page;
+            if (paginationComplete && blockingQueuePages.isEmpty()) {
+                // The Pagination had no room to signal the end of the result, all of its pages have been read.
+                page = END_OF_RESULT;
+            } else {
+                try {
+                    final long start = System.nanoTime();
+                    page = blockingQueuePages.take();
+                    paginationMetrics.recordConvertWait(System.nanoTime() - start);
+                    resumePagination();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw SqlGremlinError.create(SqlGremlinError.QUERY_CANCELED);
+                }
+            }
 
-                // If a pagination exception occurs, an EmptyResult Object will be inserted into the BlockingQueue.
+            if (page == END_OF_RESULT) {
+                // If a pagination exception occurs, the end of the result is signalled right away.
                 // The pagination exception needs to be checked before returning.
                 if (paginationException != null) {
                     throw paginationException;
                 }
-                return result;
-            } catch (final InterruptedException ignored) {
+                endOfResult = true;
+                LOGGER.debug("Pagination metrics: {}", paginationMetrics);
+                continue;
             }
+            final long start = System.nanoTime();
+            try {
+                currentPage = page.get();
+            } catch (final RuntimeException e) {
+                throw new SQLException(e);
+            }
+            currentPageIndex = 0;
+            paginationMetrics.recordConvert(System.nanoTime() - start);
         }
     }
-
-    public static class EmptyResult extends ArrayList<Object> {
-    }
 }
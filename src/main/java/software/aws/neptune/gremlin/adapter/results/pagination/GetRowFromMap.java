@@ -16,8 +16,22 @@
 
 package software.aws.neptune.gremlin.adapter.results.pagination;
 
+import software.aws.neptune.gremlin.adapter.results.SqlGremlinQueryResult;
+
 import java.util.Map;
 
 interface GetRowFromMap {
+    /**
+     * Reads a row from a traversal result, with SqlGremlinQueryResult.NULL_VALUE already resolved to null.
+     *
+     * @param input Traversal result.
+     * @return Row values.
+     */
     Object[] execute(Map<String, Object> input);
+
+    static Object resolveNull(final Object value) {
+        // This is a workaround for Gremlin null support not being in any version of Gremlin that is
+        // widely supported by database vendors.
+        return SqlGremlinQueryResult.NULL_VALUE.equals(value) ? null : value;
+    }
 }
@@ -48,7 +48,8 @@ public class JoinDataReader implements GetRowFromMap {
                 row[i++] = null;
                 continue;
             }
-            row[i++] = ((Map<String, Object>) map.get(tableKey.get())).getOrDefault(columnKey.get(), null);
+            row[i++] = GetRowFromMap.resolveNull(
+                    ((Map<String, Object>) map.get(tableKey.get())).getOrDefault(columnKey.get(), null));
         }
         return row;
     }
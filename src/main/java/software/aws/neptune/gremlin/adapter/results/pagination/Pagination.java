@@ -16,7 +16,7 @@
 
 package software.aws.neptune.gremlin.adapter.results.pagination;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.apache.tinkerpop.gremlin.process.traversal.translator.GroovyTranslator;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.slf4j.Logger;
@@ -27,49 +27,70 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-@AllArgsConstructor
+/**
+ * Fetches the pages of a traversal for its SqlGremlinQueryResult. When PREFETCH_PAGES pages are waiting for the
+ * consumer, the Pagination returns its thread and is resubmitted once the consumer takes a page, so that results
+ * which are not read do not hold the threads of the PaginationExecutor.
+ */
+@RequiredArgsConstructor
 public class Pagination implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Pagination.class);
-    private static final int DEFAULT_PAGE_SIZE = 1000;
-    private final int pageSize = DEFAULT_PAGE_SIZE;
     private final GetRowFromMap getRowFromMap;
     private final GraphTraversal<?, ?> traversal;
     private final SqlGremlinQueryResult sqlGremlinQueryResult;
+    private boolean started = false;
 
     @Override
     public void run() {
+        boolean suspended = false;
         try {
-            LOGGER.info("Graph traversal: " +
-                    GroovyTranslator.of("g").translate(traversal.asAdmin().getBytecode()));
-            while (traversal.hasNext()) {
-                final List<Object> rows = new ArrayList<>();
-                traversal.next(pageSize).forEach(map -> {
-                    // Our choose(<predicate>, <expected>, <empty>) returns an empty list.
-                    // If we get that, we just want to skip over it.
-                    if (map instanceof Map) {
-                        rows.add(getRowFromMap.execute((Map<String, Object>) map));
-                    }
-                });
-                convertAndInsertResult(sqlGremlinQueryResult, rows);
+            if (!started) {
+                started = true;
+                LOGGER.info("Graph traversal: " +
+                        GroovyTranslator.of("g").translate(traversal.asAdmin().getBytecode()));
+            }
+            final PaginationMetrics paginationMetrics = sqlGremlinQueryResult.getPaginationMetrics();
+            while (!sqlGremlinQueryResult.isCancelled()) {
+                final long start = System.nanoTime();
+                if (!traversal.hasNext()) {
+                    break;
+                }
+                final List<?> page = traversal.next(sqlGremlinQueryResult.nextPageSize());
+                paginationMetrics.recordFetch(System.nanoTime() - start, page.size());
+                // The consumer converts this page while the next one is fetched.
+                if (!sqlGremlinQueryResult.addPage(() -> convertPage(page), this)) {
+                    // The result keeps the page and resumes this Pagination once the consumer takes a page.
+                    suspended = true;
+                    return;
+                }
             }
             // If we run out of traversal data (or hit our limit), stop and signal to the result that it is done.
             sqlGremlinQueryResult.close();
         } catch (final Exception e) {
+            if (sqlGremlinQueryResult.isCancelled()) {
+                // Interrupted by the cancellation, the result already reports it.
+                LOGGER.debug("Pagination stopped by query cancellation.");
+                return;
+            }
             final StringWriter sw = new StringWriter();
             final PrintWriter pw = new PrintWriter(sw);
             e.printStackTrace(pw);
             LOGGER.error("Encountered exception", e);
             sqlGremlinQueryResult.setPaginationException(new SQLException(e + sw.toString()));
         } finally {
-            closeTraversal();
+            if (!suspended) {
+                closeTraversal();
+            }
         }
     }
 
-    void closeTraversal() {
+    /**
+     * Closes the traversal, once the Pagination is over or when a suspended Pagination is not resumed.
+     */
+    public void closeTraversal() {
         try {
             traversal.close();
         } catch (final Exception ignored) {
@@ -77,19 +98,17 @@ public class Pagination implements Runnable {
     }
 
     /**
-     * converts input row results and insert them into sqlGremlinQueryResult
+     * converts a page of traversal results to rows, the rows read from the maps are used as is
      */
-    void convertAndInsertResult(final SqlGremlinQueryResult sqlGremlinQueryResult, final List<Object> rows) {
-        final List<List<Object>> finalRowResult = new ArrayList<>();
-        for (final Object row : rows) {
-            final List<Object> convertedRow = new ArrayList<>();
-            if (row instanceof Object[]) {
-                convertedRow.addAll(Arrays.asList((Object[]) row));
-            } else {
-                convertedRow.add(row);
+    List<Object[]> convertPage(final List<?> page) {
+        final List<Object[]> rows = new ArrayList<>(page.size());
+        for (final Object map : page) {
+            // Our choose(<predicate>, <expected>, <empty>) returns an empty list.
+            // If we get that, we just want to skip over it.
+            if (map instanceof Map) {
+                rows.add(getRowFromMap.execute((Map<String, Object>) map));
             }
-            finalRowResult.add(convertedRow);
         }
-        sqlGremlinQueryResult.addResults(finalRowResult);
+        return rows;
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.adapter.results.pagination;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.gremlin.adapter.util.SqlGremlinError;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Driver-wide executor running the Pagination of every SQL query.
+ * <p>
+ * On JDK 21+ each Pagination runs on its own virtual thread. On earlier JDKs a bounded pool of daemon threads is
+ * used, and Paginations which cannot get a thread wait in a bounded queue.
+ */
+public final class PaginationExecutor {
+    public static final int DEFAULT_MAX_THREADS = 64;
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaginationExecutor.class);
+    private static final Object LOCK = new Object();
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final String THREAD_NAME_FORMAT = "Data-Insert-Thread-%d";
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+    private static ExecutorService executor = null;
+    private static int maxThreads = DEFAULT_MAX_THREADS;
+    private static int queueSize = DEFAULT_QUEUE_SIZE;
+    private static boolean configured = false;
+
+    private PaginationExecutor() {
+    }
+
+    /**
+     * Sets the size of the platform thread pool and of its queue. Has no effect when virtual threads are used.
+     * The executor is shared by the whole driver, so the first configuration wins: later calls with other values are
+     * logged and ignored.
+     *
+     * @param newMaxThreads Maximum number of Pagination threads.
+     * @param newQueueSize  Maximum number of Paginations waiting for a thread.
+     */
+    public static void configure(final int newMaxThreads, final int newQueueSize) {
+        if (newMaxThreads < 1 || newQueueSize < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid pagination executor configuration: maxThreads=%d, queueSize=%d.",
+                    newMaxThreads, newQueueSize));
+        }
+        synchronized (LOCK) {
+            if (!configured) {
+                maxThreads = newMaxThreads;
+                queueSize = newQueueSize;
+                configured = true;
+            } else if (newMaxThreads != maxThreads || newQueueSize != queueSize) {
+                LOGGER.warn("Ignoring pagination executor configuration maxThreads={}, queueSize={}, the executor "
+                                + "is shared by the driver and already configured with maxThreads={}, queueSize={}.",
+                        newMaxThreads, newQueueSize, maxThreads, queueSize);
+            }
+        }
+    }
+
+    /**
+     * Runs the Pagination on the shared executor.
+     *
+     * @param pagination Pagination to run.
+     * @return Future of the Pagination, which can be used to interrupt it.
+     * @throws SQLException if the Pagination cannot be queued.
+     */
+    public static Future<?> execute(final Pagination pagination) throws SQLException {
+        try {
+            return getExecutor().submit(pagination);
+        } catch (final RejectedExecutionException e) {
+            throw SqlGremlinError.create(SqlGremlinError.PAGINATION_QUEUE_FULL, e, queueSize);
+        }
+    }
+
+    /**
+     * Function to check whether Paginations run on virtual threads.
+     *
+     * @return True if virtual threads are used, false otherwise.
+     */
+    public static boolean isUsingVirtualThreads() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    private static ExecutorService getExecutor() {
+        synchronized (LOCK) {
+            if (executor == null || executor.isShutdown()) {
+                executor = createExecutor();
+            }
+            return executor;
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        if (VIRTUAL_THREAD_FACTORY != null) {
+            try {
+                final Method newThreadPerTaskExecutor = Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, VIRTUAL_THREAD_FACTORY);
+            } catch (final ReflectiveOperationException e) {
+                LOGGER.warn("Failed to create virtual thread executor, falling back to platform threads.", e);
+            }
+        }
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                queueSize == 0 ? new SynchronousQueue<Runnable>() : new LinkedBlockingQueue<Runnable>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat(THREAD_NAME_FORMAT).setDaemon(true).build());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    /**
+     * Creates a factory of virtual threads through reflection, since the driver is compiled for Java 8.
+     *
+     * @return ThreadFactory of virtual threads, or null if the JDK does not support them.
+     */
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, THREAD_NAME_FORMAT.replace("%d", ""), 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.adapter.results.pagination;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time spent in each stage of the pagination of a query. The fetch stage retrieves pages from the database and the
+ * convert stage turns them into rows for the consumer, the wait times show which stage is waiting on the other.
+ */
+public class PaginationMetrics {
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong fetchNanos = new AtomicLong();
+    private final AtomicLong fetchWaitNanos = new AtomicLong();
+    private final AtomicLong convertNanos = new AtomicLong();
+    private final AtomicLong convertWaitNanos = new AtomicLong();
+
+    /**
+     * Records a page retrieved by the fetch stage.
+     *
+     * @param nanos    Time spent retrieving the page.
+     * @param rowCount Number of results in the page.
+     */
+    public void recordFetch(final long nanos, final int rowCount) {
+        pages.incrementAndGet();
+        rows.addAndGet(rowCount);
+        fetchNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Records the time the fetch stage waited for the convert stage to free a buffer.
+     *
+     * @param nanos Time spent waiting.
+     */
+    public void recordFetchWait(final long nanos) {
+        fetchWaitNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Records a page converted by the convert stage.
+     *
+     * @param nanos Time spent converting the page.
+     */
+    public void recordConvert(final long nanos) {
+        convertNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Records the time the convert stage waited for the fetch stage to provide a page.
+     *
+     * @param nanos Time spent waiting.
+     */
+    public void recordConvertWait(final long nanos) {
+        convertWaitNanos.addAndGet(nanos);
+    }
+
+    public long getPages() {
+        return pages.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getFetchMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(fetchNanos.get());
+    }
+
+    public long getFetchWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(fetchWaitNanos.get());
+    }
+
+    public long getConvertMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(convertNanos.get());
+    }
+
+    public long getConvertWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(convertWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pages=%d, rows=%d, fetch=%dms, fetchWait=%dms, convert=%dms, convertWait=%dms",
+                getPages(), getRows(), getFetchMillis(), getFetchWaitMillis(), getConvertMillis(),
+                getConvertWaitMillis());
+    }
+}
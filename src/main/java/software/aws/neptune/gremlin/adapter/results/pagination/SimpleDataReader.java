@@ -32,22 +32,22 @@ public class SimpleDataReader implements GetRowFromMap {
     @Override
     public Object[] execute(final Map<String, Object> map) {
         final Object[] row = new Object[columnNames.size()];
+        // The table is the same for every column, it only needs to be looked up once.
+        final Optional<String> tableKey =
+                map.keySet().stream().filter(key -> key.equalsIgnoreCase(label)).findFirst();
+        if (!tableKey.isPresent()) {
+            return row;
+        }
+        final Map<String, Object> tableMap = (Map<String, Object>) map.get(tableKey.get());
         int i = 0;
         for (final String column : columnNames) {
-            final Optional<String> tableKey =
-                    map.keySet().stream().filter(key -> key.equalsIgnoreCase(label)).findFirst();
-            if (!tableKey.isPresent()) {
-                row[i++] = null;
-                continue;
-            }
-
-            final Optional<String> columnKey = ((Map<String, Object>) map.get(tableKey.get())).keySet().stream()
+            final Optional<String> columnKey = tableMap.keySet().stream()
                     .filter(key -> key.equalsIgnoreCase(column)).findFirst();
             if (!columnKey.isPresent()) {
                 row[i++] = null;
                 continue;
             }
-            row[i++] = ((Map<String, Object>) map.get(tableKey.get())).getOrDefault(columnKey.get(), null);
+            row[i++] = GetRowFromMap.resolveNull(tableMap.getOrDefault(columnKey.get(), null));
         }
         return row;
     }
@@ -90,7 +90,9 @@ public enum SqlGremlinError {
     CANNOT_JOIN_DIFFERENT_EDGES,
     UNSUPPORTED_OPERAND_TYPE,
     UNRECOGNIZED_TYPE,
-    UNSUPPORTED_BASIC_LITERALS;
+    UNSUPPORTED_BASIC_LITERALS,
+    PAGINATION_QUEUE_FULL,
+    QUERY_CANCELED;
 
     private static final ResourceBundle RESOURCE;
 
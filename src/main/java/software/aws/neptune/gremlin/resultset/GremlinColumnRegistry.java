@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.resultset;
+
+import software.aws.neptune.gremlin.GremlinTypeMapping;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columns of a Gremlin query result, built as the results are read.
+ * <p>
+ * Each column gets its index once, when its key is first seen, so rows can be stored as arrays indexed by column.
+ * Keys are looked up as returned by the driver and only converted to a column name the first time they are seen.
+ * <p>
+ * The type of a column starts unknown, becomes the type of its first non-null value, and becomes String as soon as
+ * a value of another type is seen. Values of types unsupported by JDBC make the column a String column, as do
+ * columns with only null values.
+ */
+public class GremlinColumnRegistry {
+    private final Map<Object, Integer> keyIndexes = new HashMap<>();
+    private final Map<String, Integer> nameIndexes = new HashMap<>();
+    private final List<String> columns = new ArrayList<>();
+    private final List<Class<?>> columnTypes = new ArrayList<>();
+
+    /**
+     * Function to get the index of the column of a key.
+     *
+     * @param key Key of the column, as returned by the driver.
+     * @return Index of the column, or -1 if there is no column for this key.
+     */
+    public int getIndex(final Object key) {
+        final Integer index = keyIndexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        // Different key objects, such as T.id and "id", can name the same column.
+        final Integer nameIndex = nameIndexes.get(key.toString());
+        if (nameIndex == null) {
+            return -1;
+        }
+        keyIndexes.put(key, nameIndex);
+        return nameIndex;
+    }
+
+    /**
+     * Function to get the index of the column of a key, adding the column if there is none.
+     *
+     * @param key Key of the column, as returned by the driver.
+     * @return Index of the column.
+     */
+    public int addColumn(final Object key) {
+        final int index = getIndex(key);
+        if (index >= 0) {
+            return index;
+        }
+        final int newIndex = columns.size();
+        columns.add(key.toString());
+        columnTypes.add(null);
+        nameIndexes.put(key.toString(), newIndex);
+        keyIndexes.put(key, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Function to widen the type of a column to hold a value.
+     *
+     * @param index Index of the column.
+     * @param value Value of the column.
+     */
+    public void addValue(final int index, final Object value) {
+        if (value == null) {
+            return;
+        }
+        final Class<?> columnType = columnTypes.get(index);
+        final Class<?> valueType = value.getClass();
+        if (columnType == valueType || columnType == String.class) {
+            return;
+        }
+        if (columnType == null && GremlinTypeMapping.checkContains(valueType)) {
+            columnTypes.set(index, valueType);
+        } else {
+            columnTypes.set(index, String.class);
+        }
+    }
+
+    /**
+     * Function to check whether a column exists.
+     *
+     * @param column Name of the column.
+     * @return True if the column exists, false otherwise.
+     */
+    public boolean contains(final String column) {
+        return nameIndexes.containsKey(column);
+    }
+
+    /**
+     * Function to get the number of columns.
+     *
+     * @return Number of columns.
+     */
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Function to get the column names, by column index.
+     *
+     * @return List of column names.
+     */
+    public List<String> getColumns() {
+        return new ArrayList<>(columns);
+    }
+
+    /**
+     * Function to get the column types, by column index.
+     *
+     * @return List of column types.
+     */
+    public List<Class<?>> getColumnTypes() {
+        final List<Class<?>> types = new ArrayList<>(columnTypes.size());
+        for (final Class<?> type : columnTypes) {
+            types.add(type == null ? String.class : type);
+        }
+        return types;
+    }
+}
@@ -28,7 +28,6 @@ import software.aws.neptune.jdbc.utilities.SqlState;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,8 +37,9 @@ import java.util.Map;
 public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
     private static final Logger LOGGER = LoggerFactory.getLogger(GremlinResultSet.class);
     private final List<String> columns;
-    private final List<Map<String, Object>> rows;
-    private final Map<String, Class<?>> columnTypes;
+    // Rows hold their values by column index, rows built before a column was added are shorter than the columns.
+    private final List<Object[]> rows;
+    private final List<Class<?>> columnTypes;
     private boolean wasNull = false;
 
     /**
@@ -52,7 +52,7 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
         super(statement, resultSetInfo.getColumns(), resultSetInfo.getRows().size());
         this.columns = resultSetInfo.getColumns();
         this.rows = resultSetInfo.getRows();
-        this.columnTypes = resultSetInfo.getColumnsTypes();
+        this.columnTypes = resultSetInfo.getColumnTypes();
     }
 
     /**
@@ -64,7 +64,7 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
     public GremlinResultSet(final java.sql.Statement statement, final ResultSetInfoWithoutRows resultSetInfo) {
         super(statement, resultSetInfo.getColumns(), resultSetInfo.getRowCount());
         this.columns = resultSetInfo.getColumns();
-        this.columnTypes = new HashMap<>();
+        this.columnTypes = null;
         this.rows = null;
     }
 
@@ -79,16 +79,20 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
 
     @Override
     protected ResultSetMetaData getResultMetadata() throws SQLException {
+        if (columnTypes != null) {
+            return new GremlinResultSetMetadata(columns, columnTypes);
+        }
         final List<Class<?>> rowTypes = new ArrayList<>();
-        for (final String column : columns) {
-            rowTypes.add(columnTypes.getOrDefault(column, String.class));
+        for (int i = 0; i < columns.size(); i++) {
+            rowTypes.add(String.class);
         }
         return new GremlinResultSetMetadata(columns, rowTypes);
     }
 
     protected Object getConvertedValue(final int columnIndex) throws SQLException {
         final Object value = getValue(columnIndex);
-        return (value == null) || GremlinTypeMapping.checkContains(value.getClass())
+        // Values which do not match the type of their column are returned as String, like the column type says.
+        return (value == null) || columnTypes.get(columnIndex - 1).equals(value.getClass())
                 ? value
                 : value.toString();
     }
@@ -103,9 +107,8 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
         }
         validateRowColumn(columnIndex);
 
-        final String colName = columns.get(columnIndex - 1);
-        final Map<String, Object> row = rows.get(getRowIndex());
-        final Object value = row.getOrDefault(colName, null);
+        final Object[] row = rows.get(getRowIndex());
+        final Object value = (columnIndex <= row.length) ? row[columnIndex - 1] : null;
         wasNull = (value == null);
 
         return value;
@@ -121,8 +124,8 @@ public class GremlinResultSet extends ResultSet implements java.sql.ResultSet {
     @AllArgsConstructor
     @Getter
     public static class ResultSetInfoWithRows {
-        private final List<Map<String, Object>> rows;
-        private final Map<String, Class<?>> columnsTypes;
+        private final List<Object[]> rows;
+        private final List<Class<?>> columnTypes;
         private final List<String> columns;
     }
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.resultset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.gremlin.GremlinTypeMapping;
+import software.aws.neptune.jdbc.ResultSet;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Gremlin ResultSet which retrieves the results from the driver one page at a time while it is iterated.
+ * <p>
+ * The columns and their types are discovered from the first results of the query, see
+ * {@link ResultSetInfoWithStream}. Keys of later results which are not part of the discovered columns are skipped,
+ * and values whose type differs from the type of their column are returned as String.
+ */
+public class GremlinStreamingResultSet extends ResultSet implements java.sql.ResultSet {
+    // Matches the default result iteration batch size of the Gremlin driver.
+    public static final int DEFAULT_PAGE_SIZE = 64;
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinStreamingResultSet.class);
+    private final org.apache.tinkerpop.gremlin.driver.ResultSet results;
+    private final List<String> columns;
+    private final List<Class<?>> columnTypes;
+    private final GremlinColumnRegistry columnRegistry;
+    private final int scalarColumnIndex;
+    private final Set<String> skippedColumns = new HashSet<>();
+    private final GremlinResultSetMetadata gremlinResultSetMetadata;
+    private Iterator<Result> page;
+    private boolean resultsExhausted = false;
+    private int pageSize;
+    // Current row, null before the first and after the last row.
+    private Object[] row = null;
+    private int rowNumber = 0;
+    private boolean afterLast = false;
+    private boolean wasNull = false;
+
+    /**
+     * GremlinStreamingResultSet constructor, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public GremlinStreamingResultSet(final java.sql.Statement statement,
+                                     final ResultSetInfoWithStream resultSetInfo) {
+        // 1 for row count as placeholder, rows are counted as they are retrieved.
+        super(statement, resultSetInfo.getColumnRegistry().getColumns(), 1);
+        this.results = resultSetInfo.getResults();
+        this.columnRegistry = resultSetInfo.getColumnRegistry();
+        this.columns = columnRegistry.getColumns();
+        this.columnTypes = columnRegistry.getColumnTypes();
+        this.scalarColumnIndex = resultSetInfo.getScalarColumn() == null
+                ? -1
+                : columnRegistry.getIndex(resultSetInfo.getScalarColumn());
+        this.page = resultSetInfo.getFirstResults().iterator();
+        this.pageSize = resultSetInfo.getPageSize() > 0 ? resultSetInfo.getPageSize() : DEFAULT_PAGE_SIZE;
+        this.gremlinResultSetMetadata = new GremlinResultSetMetadata(columns, columnTypes);
+    }
+
+    @Override
+    protected void doClose() throws SQLException {
+        // The driver has no way to stop a response, drop the remaining results so they can be garbage collected.
+        page = null;
+        row = null;
+        resultsExhausted = true;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        verifyOpen();
+        while (!afterLast) {
+            if (page != null && page.hasNext()) {
+                final Object[] nextRow = toRow(page.next().getObject());
+                if (nextRow != null) {
+                    row = nextRow;
+                    rowNumber++;
+                    return true;
+                }
+            } else if (resultsExhausted || !fetchPage()) {
+                row = null;
+                afterLast = true;
+            }
+        }
+        return false;
+    }
+
+    private boolean fetchPage() throws SQLException {
+        final List<Result> nextPage;
+        try {
+            // Completes once a full page is available or the response is complete.
+            nextPage = results.some(pageSize).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SqlError.createSQLException(LOGGER, SqlState.OPERATION_CANCELED, SqlError.QUERY_CANCELED);
+        } catch (final ExecutionException e) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.QUERY_FAILED,
+                    e.getCause() == null ? e : e.getCause());
+        }
+        if (nextPage.isEmpty()) {
+            resultsExhausted = true;
+            page = null;
+            return false;
+        }
+        page = nextPage.iterator();
+        return true;
+    }
+
+    private Object[] toRow(final Object result) {
+        if (result instanceof Map) {
+            final Object[] newRow = new Object[columns.size()];
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) result).entrySet()) {
+                final int index = columnRegistry.getIndex(entry.getKey());
+                if (index >= 0) {
+                    newRow[index] = entry.getValue();
+                } else if (skippedColumns.add(entry.getKey().toString())) {
+                    LOGGER.warn(String.format(
+                            "Column '%s' was not found in the results used to discover the columns and will be skipped.",
+                            entry.getKey()));
+                }
+            }
+            return newRow;
+        } else if (result != null && scalarColumnIndex >= 0 && GremlinTypeMapping.checkContains(result.getClass())) {
+            final Object[] newRow = new Object[columns.size()];
+            newRow[scalarColumnIndex] = result;
+            return newRow;
+        }
+        LOGGER.warn(String.format("Result of type '%s' does not match the discovered columns and will be skipped.",
+                result == null ? null : result.getClass().getCanonicalName()));
+        return null;
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        verifyOpen();
+        return rowNumber == 0 && !afterLast;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        verifyOpen();
+        return afterLast;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        verifyOpen();
+        return rowNumber == 1 && !afterLast;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        verifyOpen();
+        return afterLast ? 0 : rowNumber;
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    protected int getDriverFetchSize() throws SQLException {
+        return pageSize;
+    }
+
+    @Override
+    protected void setDriverFetchSize(final int rows) {
+        // Applies to the pages which have not been retrieved yet.
+        pageSize = rows > 0 ? rows : DEFAULT_PAGE_SIZE;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return wasNull;
+    }
+
+    @Override
+    protected ResultSetMetaData getResultMetadata() throws SQLException {
+        return gremlinResultSetMetadata;
+    }
+
+    protected Object getConvertedValue(final int columnIndex) throws SQLException {
+        final Object value = getValue(columnIndex);
+        return (value == null) || columnTypes.get(columnIndex - 1).equals(value.getClass())
+                ? value
+                : value.toString();
+    }
+
+    private Object getValue(final int columnIndex) throws SQLException {
+        verifyOpen();
+        if (row == null) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_INDEX,
+                    getRow(), rowNumber);
+        }
+        if ((columnIndex <= 0) || (columnIndex > columns.size())) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_COLUMN_INDEX,
+                    columnIndex, columns.size());
+        }
+        final Object value = row[columnIndex - 1];
+        wasNull = (value == null);
+        return value;
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        LOGGER.trace("Getting column {} as an Object using provided Map.", columnIndex);
+        final Object value = getValue(columnIndex);
+        return getObject(columnIndex, map.get(GremlinTypeMapping.getJDBCType(value.getClass()).name()));
+    }
+
+    /**
+     * Streamed Gremlin query result with the columns discovered from its first results, see
+     * {@link GremlinColumnRegistry} for the typing of the columns.
+     * <p>
+     * Columns are the keys of the Map results, in the order they were first seen, and a single generated column for
+     * all scalar results.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        private final org.apache.tinkerpop.gremlin.driver.ResultSet results;
+        private final List<Result> firstResults;
+        private final GremlinColumnRegistry columnRegistry;
+        private final String scalarColumn;
+        private final int pageSize;
+
+        /**
+         * Function to discover the columns from the first results of a query.
+         *
+         * @param results      Driver ResultSet to read the remaining results from.
+         * @param firstResults First results of the query.
+         * @param pageSize     Number of results to retrieve at a time, 0 for the default page size.
+         * @return ResultSetInfoWithStream of the query.
+         */
+        public static ResultSetInfoWithStream discover(final org.apache.tinkerpop.gremlin.driver.ResultSet results,
+                                                       final List<Result> firstResults, final int pageSize) {
+            final GremlinColumnRegistry columnRegistry = new GremlinColumnRegistry();
+            final List<Object> scalars = new ArrayList<>();
+            for (final Result result : firstResults) {
+                final Object value = result.getObject();
+                if (value instanceof Map) {
+                    for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                        columnRegistry.addValue(columnRegistry.addColumn(entry.getKey()), entry.getValue());
+                    }
+                } else if (value != null && GremlinTypeMapping.checkContains(value.getClass())) {
+                    scalars.add(value);
+                }
+            }
+
+            String scalarColumn = null;
+            if (!scalars.isEmpty()) {
+                // Scalar results share a single generated column which does not conflict with the Map keys.
+                int index = 0;
+                while (columnRegistry.contains(String.format("_col%d", index))) {
+                    index++;
+                }
+                scalarColumn = String.format("_col%d", index);
+                final int scalarColumnIndex = columnRegistry.addColumn(scalarColumn);
+                for (final Object scalar : scalars) {
+                    columnRegistry.addValue(scalarColumnIndex, scalar);
+                }
+            }
+            return new ResultSetInfoWithStream(results, firstResults, columnRegistry, scalarColumn, pageSize);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package software.aws.neptune.gremlin.sql;
 import lombok.NonNull;
 import software.aws.neptune.NeptuneDatabaseMetadata;
 import software.aws.neptune.gremlin.GremlinConnection;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationExecutor;
 import software.aws.neptune.jdbc.utilities.ConnectionProperties;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import java.sql.DatabaseMetaData;
@@ -34,11 +35,8 @@ public class SqlGremlinConnection extends GremlinConnection {
             final @NonNull ConnectionProperties connectionProperties)
             throws SQLException {
         super(connectionProperties);
-    }
-
-    @Override
-    public void doClose() {
-        SqlGremlinQueryExecutor.close();
+        PaginationExecutor.configure(getGremlinConnectionProperties().getPaginationMaxThreads(),
+                getGremlinConnectionProperties().getPaginationQueueSize());
     }
 
     @Override
@@ -17,6 +17,7 @@
 package software.aws.neptune.gremlin.sql;
 
 import lombok.SneakyThrows;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.remote.DriverRemoteConnection;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.slf4j.Logger;
@@ -28,12 +29,15 @@ import software.aws.neptune.gremlin.GremlinConnectionProperties;
 import software.aws.neptune.gremlin.GremlinQueryExecutor;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetColumns;
 import software.aws.neptune.gremlin.resultset.GremlinResultSetGetTables;
+import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
 import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
 
@@ -42,10 +46,12 @@ import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalS
  */
 public class SqlGremlinQueryExecutor extends GremlinQueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(SqlGremlinQueryExecutor.class);
-    private static final Object TRAVERSAL_LOCK = new Object();
     private SqlConverter gremlinSqlConverter = null;
-    private static GraphTraversalSource graphTraversalSource = null;
     private final GremlinConnectionProperties gremlinConnectionProperties;
+    private final Object cancelLock = new Object();
+    // Result of the last query, its pagination keeps running after runQuery returns.
+    private SqlGremlinQueryResult runningQueryResult = null;
+    private boolean cancelRequested = false;
 
     /**
      * Constructor for SqlGremlinQueryExecutor.
@@ -57,34 +63,11 @@ public class SqlGremlinQueryExecutor extends GremlinQueryExecutor {
         this.gremlinConnectionProperties = gremlinConnectionProperties;
     }
 
-    /**
-     * Function to release the SqlGremlinQueryExecutor resources.
-     */
-    public static void close() {
-        try {
-            synchronized (TRAVERSAL_LOCK) {
-                if (graphTraversalSource != null) {
-                    graphTraversalSource.close();
-                }
-                graphTraversalSource = null;
-            }
-        } catch (final Exception e) {
-            LOGGER.warn("Failed to close traversal source", e);
-        }
-        GremlinQueryExecutor.close();
-    }
-
     private GraphTraversalSource getGraphTraversalSource(
             final GremlinConnectionProperties gremlinConnectionProperties)
             throws SQLException {
-        synchronized (TRAVERSAL_LOCK) {
-            if (graphTraversalSource == null) {
-                graphTraversalSource =
-                        traversal().withRemote(DriverRemoteConnection.using(getClient(gremlinConnectionProperties)));
-            }
-        }
-        return graphTraversalSource;
-
+        // The traversal source only wraps the shared client of the cluster, so it is cheap to create.
+        return traversal().withRemote(DriverRemoteConnection.using(getClient(gremlinConnectionProperties)));
     }
 
     private SqlConverter getGremlinSqlConverter(final GremlinConnectionProperties gremlinConnectionProperties)
@@ -163,18 +146,110 @@ public class SqlGremlinQueryExecutor extends GremlinQueryExecutor {
                     SqlState.DATA_EXCEPTION,
                     SqlError.QUERY_FAILED, e);
         }
-        return runCancellableQuery(constructor, statement, sql);
+        try {
+            return runCancellableQuery(constructor, statement, sql);
+        } finally {
+            // A cancel is only requested while the query is in progress, it does not carry over to the next query.
+            synchronized (cancelLock) {
+                cancelRequested = false;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql, final Statement statement)
+            throws SQLException {
+        // SQL queries are converted to blocking traversals, so the query runs on the blocking query pool and its
+        // pages are then fetched on the PaginationExecutor.
+        return executeQueryOnPool(sql, statement);
+    }
+
+    @Override
+    protected QueryExecutor createQueryExecutor() throws SQLException {
+        return new SqlGremlinQueryExecutor(gremlinConnectionProperties);
+    }
+
+    @Override
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsParameters() {
+        // SQL queries are translated to traversals, the Gremlin script bindings do not apply.
+        return false;
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql, final Statement statement,
+                                  final Map<Integer, Object> parameters) throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
     }
 
     @SneakyThrows
     @Override
     @SuppressWarnings("unchecked")
     protected <T> T runQuery(final String query) {
-        return (T) getGremlinSqlConverter(gremlinConnectionProperties).executeQuery(getGraphTraversalSource(gremlinConnectionProperties), query);
+        synchronized (cancelLock) {
+            if (runningQueryResult != null) {
+                // Executing a query closes the previous ResultSet of the statement, stop paginating it.
+                runningQueryResult.cancel();
+                runningQueryResult = null;
+            }
+        }
+        final int fetchSize = getFetchSize();
+        final boolean adaptiveFetchSize = gremlinConnectionProperties.getAdaptiveFetchSize();
+        GraphTraversalSource g = getGraphTraversalSource(gremlinConnectionProperties);
+        final long timeoutMillis = getQueryTimeoutMillis();
+        if (timeoutMillis > 0) {
+            g = g.with(Tokens.ARGS_EVAL_TIMEOUT, timeoutMillis);
+        }
+        if (fetchSize > 0 || adaptiveFetchSize) {
+            // Have the server stream results in batches matching the first page, so it is returned in one round trip.
+            // The server pushes the following batches without being asked, so the larger pages of the adaptive page
+            // size are assembled from several batches: the adaptive page size only changes the client-side pages.
+            g = g.with(Tokens.ARGS_BATCH_SIZE, SqlGremlinQueryResult.getInitialPageSize(fetchSize, adaptiveFetchSize));
+        }
+        final SqlGremlinQueryResult sqlGremlinQueryResult = getGremlinSqlConverter(gremlinConnectionProperties)
+                .executeQuery(g, query, fetchSize, adaptiveFetchSize);
+        synchronized (cancelLock) {
+            if (cancelRequested) {
+                sqlGremlinQueryResult.cancel();
+            } else {
+                runningQueryResult = sqlGremlinQueryResult;
+            }
+        }
+        return (T) sqlGremlinQueryResult;
+    }
+
+    /**
+     * Function to cancel running query. Results of a SQL query are paginated after the query returns its
+     * ResultSet, so a query is still running until its pagination completes.
+     *
+     * @param isClosing Whether the Statement is being closed.
+     * @throws SQLException if query cancellation fails.
+     */
+    @Override
+    public void cancelQuery(final boolean isClosing) throws SQLException {
+        synchronized (cancelLock) {
+            if (runningQueryResult != null) {
+                final SqlGremlinQueryResult sqlGremlinQueryResult = runningQueryResult;
+                runningQueryResult = null;
+                if (!sqlGremlinQueryResult.isCancelled() && !sqlGremlinQueryResult.isPaginationComplete()) {
+                    sqlGremlinQueryResult.cancel();
+                    LOGGER.debug("Cancel query succeeded.");
+                    return;
+                }
+            }
+        }
+        super.cancelQuery(isClosing);
     }
 
-    // TODO AN-540: Look into query cancellation.
     @Override
     protected void performCancel() {
+        // The query is still being converted, cancel it as soon as its pagination is launched.
+        synchronized (cancelLock) {
+            cancelRequested = true;
+        }
     }
 }
@@ -39,7 +39,7 @@ public class SqlGremlinResultSet extends ResultSet implements java.sql.ResultSet
     private final GremlinResultSetMetadata gremlinResultSetMetadata;
     private final SqlGremlinQueryResult sqlQueryResult;
     // A single row that's assigned when we use getResult() in next().
-    private List<Object> row;
+    private Object[] row;
     private boolean wasNull = false;
 
     /**
@@ -73,16 +73,17 @@ public class SqlGremlinResultSet extends ResultSet implements java.sql.ResultSet
 
     @Override
     protected void doClose() throws SQLException {
+        // Stops the pagination if the result was not fully consumed and releases the buffered rows.
+        sqlQueryResult.cancel();
     }
 
     @Override
     public boolean next() throws SQLException {
-        final Object res;
-        res = sqlQueryResult.getResult();
-        if (res instanceof SqlGremlinQueryResult.EmptyResult) {
+        final Object[] res = sqlQueryResult.getResult();
+        if (res == null) {
             return false;
         }
-        this.row = (List<Object>) res;
+        this.row = res;
         return true;
     }
 
@@ -102,14 +103,14 @@ public class SqlGremlinResultSet extends ResultSet implements java.sql.ResultSet
     }
 
     @Override
-    // TODO use fetch size for page size?
     protected int getDriverFetchSize() throws SQLException {
-        return 0;
+        return sqlQueryResult.getPageSize();
     }
 
     @Override
-    // TODO use fetch size for page size?
     protected void setDriverFetchSize(final int rows) {
+        // Applies to the pages which have not been retrieved yet.
+        sqlQueryResult.setPageSize(rows);
     }
 
     @Override
@@ -133,7 +134,7 @@ public class SqlGremlinResultSet extends ResultSet implements java.sql.ResultSet
         verifyOpen();
 
         // Grab value in row using column index (note: 1 based indexing of JDBC hence -1).
-        final Object value = row.get(columnIndex - 1);
+        final Object value = row[columnIndex - 1];
         wasNull = (value == null);
 
         return value;
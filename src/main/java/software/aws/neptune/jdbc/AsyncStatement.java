@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Driver extension to execute queries without blocking the calling thread, obtained with
+ * {@code statement.unwrap(AsyncStatement.class)}.
+ * <p>
+ * Queries executed asynchronously are independent of the Statement: they do not replace its current ResultSet, are
+ * not cancelled by {@link java.sql.Statement#cancel()}, and their ResultSet must be closed by the caller. Cancelling
+ * the returned future cancels the query.
+ */
+public interface AsyncStatement {
+    /**
+     * Executes the given query without blocking the calling thread.
+     *
+     * @param sql Query to execute.
+     * @return CompletableFuture completed with the ResultSet of the query, or with a SQLException if it fails.
+     * @throws SQLException if the Statement is closed or the query cannot be submitted.
+     */
+    CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException;
+}
@@ -40,6 +40,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -52,6 +53,8 @@ public abstract class Connection implements java.sql.Connection {
     private Map<String, Class<?>> typeMap = new HashMap<>();
     private SQLWarning warnings = null;
     private final SshTunnel sshTunnel;
+    // System.nanoTime() of the last successful round trip to the database, null if there was none.
+    private volatile Long lastRoundTripNanos = null;
 
     protected Connection(@NonNull final ConnectionProperties connectionProperties) throws SQLException {
         this.connectionProperties = connectionProperties;
@@ -511,7 +514,32 @@ public abstract class Connection implements java.sql.Connection {
         if (timeout < 0) {
             throw new SQLException("Timeout value must be greater than or equal to 0");
         }
-        return getQueryExecutor().isValid(timeout);
+        if (isClosed()) {
+            return false;
+        }
+        if (isWithinValidationWindow()) {
+            return true;
+        }
+        final boolean valid = getQueryExecutor().isValid(timeout);
+        if (valid) {
+            recordRoundTrip();
+        } else {
+            lastRoundTripNanos = null;
+        }
+        return valid;
+    }
+
+    /**
+     * Records a successful round trip to the database, which makes the connection valid for the validation window.
+     */
+    void recordRoundTrip() {
+        lastRoundTripNanos = System.nanoTime();
+    }
+
+    private boolean isWithinValidationWindow() {
+        final Long roundTripNanos = lastRoundTripNanos;
+        return roundTripNanos != null && System.nanoTime() - roundTripNanos
+                < TimeUnit.MILLISECONDS.toNanos(connectionProperties.getValidationWindowMillis());
     }
 }
 
@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -41,6 +42,9 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementation of PreparedStatement for JDBC Driver.
@@ -50,6 +54,8 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
     private final String sql;
     @Getter
     private final QueryExecutor queryExecutor;
+    // Values of the parameters set on the statement, by parameter index.
+    private final Map<Integer, Object> parameters = new TreeMap<>();
 
     /**
      * Constructor for seeding the prepared statement with the parent connection.
@@ -66,6 +72,22 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
         this.queryExecutor = queryExecutor;
     }
 
+    private void verifyParametersSupported() throws SQLException {
+        if (!queryExecutor.supportsParameters()) {
+            throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        }
+    }
+
+    private void setParameter(final int parameterIndex, final Object value) throws SQLException {
+        verifyOpen();
+        verifyParametersSupported();
+        if (parameterIndex < 1) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_PARAMETER_INDEX,
+                    parameterIndex);
+        }
+        parameters.put(parameterIndex, value);
+    }
+
     @Override
     public void addBatch() throws SQLException {
         verifyOpen();
@@ -91,11 +113,24 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
     }
 
     @Override
-    public void clearParameters() throws SQLException {
+    public void addBatch(final String sql) throws SQLException {
+        verifyOpen();
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql) throws SQLException {
         verifyOpen();
         throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
     }
 
+    @Override
+    public void clearParameters() throws SQLException {
+        verifyOpen();
+        verifyParametersSupported();
+        parameters.clear();
+    }
+
     @Override
     public int executeUpdate() throws SQLException {
         verifyOpen();
@@ -105,7 +140,7 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
         verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        return queryExecutor.getParameterMetaData(sql);
     }
 
     @Override
@@ -136,8 +171,7 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -182,20 +216,17 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setByte(final int parameterIndex, final byte x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -240,8 +271,7 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setDate(final int parameterIndex, final Date x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -253,26 +283,22 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setDouble(final int parameterIndex, final double x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setFloat(final int parameterIndex, final float x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setInt(final int parameterIndex, final int x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setLong(final int parameterIndex, final long x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -310,42 +336,36 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setNString(final int parameterIndex, final String value) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, value);
     }
 
     @Override
     public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, null);
     }
 
     @Override
     public void setNull(final int parameterIndex, final int sqlType, final String typeName)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, null);
     }
 
     @Override
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setObject(final int parameterIndex, final Object x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setObject(final int parameterIndex, final Object x, final int targetSqlType,
                           final int scaleOrLength)
             throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -368,20 +388,17 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setShort(final int parameterIndex, final short x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setString(final int parameterIndex, final String x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
     public void setTime(final int parameterIndex, final Time x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -393,8 +410,7 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
 
     @Override
     public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        setParameter(parameterIndex, x);
     }
 
     @Override
@@ -427,12 +443,18 @@ public class PreparedStatement extends Statement implements java.sql.PreparedSta
     @Override
     public void setQueryTimeout(final int seconds) throws SQLException {
         verifyOpen();
+        if (seconds < 0) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_TIMEOUT, seconds);
+        }
         queryExecutor.setQueryTimeout(seconds);
     }
 
     @Override
     public java.sql.ResultSet executeQuery() throws SQLException {
-        resultSet = queryExecutor.executeQuery(sql, this);
+        resultSet = parameters.isEmpty()
+                ? queryExecutor.executeQuery(sql, this)
+                : queryExecutor.executeQuery(sql, this, new TreeMap<>(parameters));
+        recordRoundTrip();
         return resultSet;
     }
 
@@ -18,6 +18,7 @@ package software.aws.neptune.jdbc;
 
 import lombok.Getter;
 import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.beanutils.converters.AbstractConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.jdbc.utilities.CastHelper;
@@ -318,8 +319,13 @@ public abstract class ResultSet implements java.sql.ResultSet {
             o = getCalendarTime(Time.valueOf(((OffsetTime) o).toLocalTime()), DEFAULT_CALENDAR);
         }
 
+        final AbstractConverter converter = JavaToJdbcTypeConverter.get(o.getClass(), targetType);
+        if (o.getClass() == targetType) {
+            // Nothing to convert, skip the converter which would return the same value.
+            return targetType.cast(o);
+        }
         try {
-            return JavaToJdbcTypeConverter.get(o.getClass(), targetType).convert(targetType, o);
+            return converter.convert(targetType, o);
         } catch (final ConversionException e) {
             throw SqlError.createSQLException(LOGGER,
                     SqlState.DATA_EXCEPTION,
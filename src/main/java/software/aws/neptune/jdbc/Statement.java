@@ -24,15 +24,24 @@ import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
 import software.aws.neptune.jdbc.utilities.Warning;
+import java.sql.BatchUpdateException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation of Statement for JDBC Driver.
  */
-public class Statement implements java.sql.Statement {
+public class Statement implements java.sql.Statement, AsyncStatement {
     private static final Logger LOGGER = LoggerFactory.getLogger(Statement.class);
     private final java.sql.Connection connection;
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
@@ -44,6 +53,11 @@ public class Statement implements java.sql.Statement {
     private SQLWarning warnings;
     private int fetchSize = 0;
     protected ResultSet resultSet;
+    // Queries added with addBatch, and the ResultSets of the last batch which were not returned yet.
+    private final List<String> batch = new ArrayList<>();
+    private final Deque<ResultSet> batchResults = new ArrayDeque<>();
+    // Cancelled to cancel the running batch, including the queries which are not submitted yet.
+    private volatile CompletableFuture<Void> runningBatch = null;
 
     /**
      * Constructor for seeding the statement with the parent connection.
@@ -61,19 +75,32 @@ public class Statement implements java.sql.Statement {
     @Override
     public void addBatch(final String sql) throws SQLException {
         verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        verifyBatchSupported();
+        batch.add(sql);
     }
 
     @Override
     public void cancel() throws SQLException {
         verifyOpen();
+        final CompletableFuture<Void> batchCancellation = runningBatch;
+        if (batchCancellation != null) {
+            batchCancellation.cancel(true);
+            return;
+        }
         queryExecutor.cancelQuery(false);
     }
 
     @Override
     public void clearBatch() throws SQLException {
         verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        verifyBatchSupported();
+        batch.clear();
+    }
+
+    private void verifyBatchSupported() throws SQLException {
+        if (!queryExecutor.supportsBatch()) {
+            throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        }
     }
 
     @Override
@@ -97,6 +124,13 @@ public class Statement implements java.sql.Statement {
                 LOGGER.debug("Closing ResultSet, which was left open in Statement.");
                 this.resultSet.close();
             }
+            closeBatchResults();
+        }
+    }
+
+    private void closeBatchResults() throws SQLException {
+        while (!batchResults.isEmpty()) {
+            batchResults.poll().close();
         }
     }
 
@@ -131,16 +165,80 @@ public class Statement implements java.sql.Statement {
         return execute(sql);
     }
 
+    /**
+     * Executes the queries of the batch, which are all in flight at the same time up to a limit set by the
+     * executor. The ResultSet of the first query is returned by {@link #getResultSet()}, and the following ones by
+     * calling {@link #getMoreResults()}, in the order the queries were added.
+     *
+     * @return {@link java.sql.Statement#SUCCESS_NO_INFO} for each query.
+     * @throws SQLException if the Statement is closed or batches are not supported.
+     * @throws BatchUpdateException if any query fails, with {@link java.sql.Statement#EXECUTE_FAILED} for the
+     *                              failed queries.
+     */
     @Override
     public int[] executeBatch() throws SQLException {
         verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        verifyBatchSupported();
+        if (resultSet != null) {
+            resultSet.close();
+            resultSet = null;
+        }
+        closeBatchResults();
+
+        final List<String> queries = new ArrayList<>(batch);
+        batch.clear();
+        final CompletableFuture<Void> batchCancellation = new CompletableFuture<>();
+        runningBatch = batchCancellation;
+        final List<ResultSet> results = new ArrayList<>(queries.size());
+        final int[] counts = new int[queries.size()];
+        SQLException error = null;
+        try {
+            final List<CompletableFuture<ResultSet>> futures =
+                    queryExecutor.executeBatch(queries, this, batchCancellation);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                    counts[i] = SUCCESS_NO_INFO;
+                } catch (final ExecutionException | CancellationException e) {
+                    counts[i] = EXECUTE_FAILED;
+                    if (error == null) {
+                        error = (e.getCause() instanceof SQLException)
+                                ? (SQLException) e.getCause()
+                                : SqlError.createSQLException(LOGGER, SqlState.OPERATION_CANCELED,
+                                SqlError.QUERY_CANCELED);
+                    }
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batchCancellation.cancel(true);
+            results.forEach(this::closeQuietly);
+            throw SqlError.createSQLException(LOGGER, SqlState.OPERATION_CANCELED, SqlError.QUERY_CANCELED);
+        } finally {
+            runningBatch = null;
+        }
+
+        if (error != null) {
+            results.forEach(this::closeQuietly);
+            throw new BatchUpdateException(error.getMessage(), error.getSQLState(), counts, error);
+        }
+        recordRoundTrip();
+        batchResults.addAll(results);
+        resultSet = batchResults.poll();
+        return counts;
+    }
+
+    private void closeQuietly(final ResultSet result) {
+        try {
+            result.close();
+        } catch (final SQLException e) {
+            LOGGER.warn("Failed to close ResultSet of batch: '" + e.getMessage() + "'");
+        }
     }
 
     @Override
     public long[] executeLargeBatch() throws SQLException {
-        verifyOpen();
-        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        return Arrays.stream(executeBatch()).asLongStream().toArray();
     }
 
     @Override
@@ -230,6 +328,7 @@ public class Statement implements java.sql.Statement {
 
         // Silently truncate to the maximum number of rows that can be retrieved at a time.
         this.fetchSize = Math.min(rows, queryExecutor.getMaxFetchSize());
+        queryExecutor.setFetchSize(this.fetchSize);
     }
 
     @Override
@@ -315,9 +414,10 @@ public class Statement implements java.sql.Statement {
         verifyOpen();
         if ((java.sql.Statement.KEEP_CURRENT_RESULT != current) && (this.resultSet != null)) {
             this.resultSet.close();
-            this.resultSet = null;
         }
-        return false;
+        // Move to the next ResultSet of the last batch, if any.
+        this.resultSet = batchResults.poll();
+        return this.resultSet != null;
     }
 
     @Override
@@ -431,7 +531,27 @@ public class Statement implements java.sql.Statement {
 
     @Override
     public java.sql.ResultSet executeQuery(final String sql) throws SQLException {
-        return queryExecutor.executeQuery(sql, this);
+        final java.sql.ResultSet result = queryExecutor.executeQuery(sql, this);
+        recordRoundTrip();
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql) throws SQLException {
+        verifyOpen();
+        final CompletableFuture<ResultSet> result = queryExecutor.executeQueryAsync(sql, this);
+        result.thenRun(this::recordRoundTrip);
+        // Returned as is, so cancelling it cancels the query.
+        return result;
+    }
+
+    /**
+     * Records a successful round trip to the database on the parent connection.
+     */
+    protected void recordRoundTrip() {
+        if (connection instanceof Connection) {
+            ((Connection) connection).recordRoundTrip();
+        }
     }
 
     @Override
@@ -443,6 +563,9 @@ public class Statement implements java.sql.Statement {
     @Override
     public void setQueryTimeout(final int seconds) throws SQLException {
         verifyOpen();
+        if (seconds < 0) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_TIMEOUT, seconds);
+        }
         queryExecutor.setQueryTimeout(seconds);
     }
 }
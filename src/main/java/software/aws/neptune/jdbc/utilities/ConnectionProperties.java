@@ -54,6 +54,7 @@ public abstract class ConnectionProperties extends Properties {
     public static final String SSH_STRICT_HOST_KEY_CHECKING = "sshStrictHostKeyChecking";
     public static final String SSH_KNOWN_HOSTS_FILE = "sshKnownHostsFile";
     public static final String SERVICE_REGION_KEY = "serviceRegion";
+    public static final String VALIDATION_WINDOW_MILLIS_KEY = "validationWindow";
     public static final AuthScheme DEFAULT_AUTH_SCHEME = AuthScheme.IAMSigV4;
     public static final SqlSchemaGrabber.ScanType DEFAULT_SCAN_TYPE = SqlSchemaGrabber.ScanType.All;
     public static final int DEFAULT_CONNECTION_TIMEOUT_MILLIS = 5000;
@@ -61,6 +62,7 @@ public abstract class ConnectionProperties extends Properties {
     public static final String DEFAULT_SSH_STRICT_CHECKING = "true";
     public static final Level DEFAULT_LOG_LEVEL = Level.OFF;
     public static final String DEFAULT_SERVICE_REGION = "";
+    public static final int DEFAULT_VALIDATION_WINDOW_MILLIS = 1000;
 
     public static final Map<String, Object> DEFAULT_PROPERTIES_MAP = new HashMap<>();
     private static final Map<String, ConnectionProperties.PropertyConverter<?>> PROPERTY_CONVERTER_MAP =
@@ -75,6 +77,7 @@ public abstract class ConnectionProperties extends Properties {
         PROPERTY_CONVERTER_MAP.put(CONNECTION_RETRY_COUNT_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(LOG_LEVEL_KEY, ConnectionProperties::toLogLevel);
         PROPERTY_CONVERTER_MAP.put(SERVICE_REGION_KEY, (key, value) -> value);
+        PROPERTY_CONVERTER_MAP.put(VALIDATION_WINDOW_MILLIS_KEY, ConnectionProperties::toUnsigned);
         PROPERTY_CONVERTER_MAP.put(SSH_USER, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(SSH_HOSTNAME, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(SSH_PRIVATE_KEY_FILE, (key, value) -> value);
@@ -90,6 +93,7 @@ public abstract class ConnectionProperties extends Properties {
         DEFAULT_PROPERTIES_MAP.put(AUTH_SCHEME_KEY, DEFAULT_AUTH_SCHEME);
         DEFAULT_PROPERTIES_MAP.put(LOG_LEVEL_KEY, DEFAULT_LOG_LEVEL);
         DEFAULT_PROPERTIES_MAP.put(SERVICE_REGION_KEY, DEFAULT_SERVICE_REGION);
+        DEFAULT_PROPERTIES_MAP.put(VALIDATION_WINDOW_MILLIS_KEY, DEFAULT_VALIDATION_WINDOW_MILLIS);
     }
 
     /**
@@ -374,6 +378,29 @@ public abstract class ConnectionProperties extends Properties {
         put(CONNECTION_TIMEOUT_MILLIS_KEY, timeoutMillis);
     }
 
+    /**
+     * Gets the validation window in milliseconds.
+     *
+     * @return The validation window in milliseconds.
+     */
+    public int getValidationWindowMillis() {
+        return (int) get(VALIDATION_WINDOW_MILLIS_KEY);
+    }
+
+    /**
+     * Sets the validation window in milliseconds. A connection which had a successful round trip to the database
+     * within the window is reported as valid without contacting the database, 0 disables the window.
+     *
+     * @param validationWindowMillis The validation window in milliseconds.
+     * @throws SQLException if value is invalid.
+     */
+    public void setValidationWindowMillis(final int validationWindowMillis) throws SQLException {
+        if (validationWindowMillis < 0) {
+            throw invalidConnectionPropertyError(VALIDATION_WINDOW_MILLIS_KEY, validationWindowMillis);
+        }
+        put(VALIDATION_WINDOW_MILLIS_KEY, validationWindowMillis);
+    }
+
     /**
      * Gets the connection retry count.
      *
@@ -16,6 +16,7 @@
 
 package software.aws.neptune.jdbc.utilities;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
@@ -23,19 +24,44 @@ import org.slf4j.LoggerFactory;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
+import java.sql.ParameterMetaData;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public abstract class QueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(QueryExecutor.class);
+    // Cancels the queries which are still running when their query timeout expires.
+    private static final ScheduledExecutorService TIMEOUT_WATCHDOG = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "neptune-query-timeout-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Runs the asynchronous queries of executors without a non-blocking query path, off the common pool as they block
+    // on network I/O.
+    private static final ExecutorService BLOCKING_QUERY_POOL = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("neptune-blocking-query-%d").setDaemon(true).build());
     private final Object lock = new Object();
+    // Query timeout set on the Statement in seconds, 0 if there is no limit.
     @Setter
     @Getter
-    private int queryTimeout = -1;
+    private int queryTimeout = 0;
+    // Fetch size hint set on the Statement, 0 if the driver should choose.
     @Setter
     @Getter
-    private int fetchSize = Integer.MAX_VALUE;
+    private int fetchSize = 0;
     private QueryState queryState = QueryState.NOT_STARTED;
+    private boolean timedOut = false;
 
     protected static boolean propertiesEqual(
             final ConnectionProperties connectionProperties1,
@@ -53,6 +79,15 @@ public abstract class QueryExecutor {
         return true;
     }
 
+    /**
+     * Function to get the query timeout to apply to the request sent to the database.
+     *
+     * @return Query timeout in milliseconds, 0 if there is no limit.
+     */
+    protected long getQueryTimeoutMillis() {
+        return queryTimeout > 0 ? TimeUnit.SECONDS.toMillis(queryTimeout) : 0;
+    }
+
     /**
      * Function to get max fetch size for driver.
      *
@@ -79,6 +114,173 @@ public abstract class QueryExecutor {
     public abstract java.sql.ResultSet executeQuery(final String sql, final java.sql.Statement statement) throws
             SQLException;
 
+    /**
+     * Function to execute query without blocking the calling thread.
+     * <p>
+     * Executors without a non-blocking query path run the query with {@link #executeQueryOnPool(String,
+     * java.sql.Statement)}, on an executor of their own.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return CompletableFuture of the java.sql.ResultSet returned from query execution.
+     * @throws SQLException if the query cannot be submitted.
+     */
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql,
+                                                                   final java.sql.Statement statement)
+            throws SQLException {
+        return executeQueryOnPool(sql, statement);
+    }
+
+    /**
+     * Function to create an executor with the same connection and settings, whose query state is independent of this
+     * executor. Executors which run asynchronous queries with {@link #executeQueryOnPool(String, java.sql.Statement)}
+     * override this function.
+     *
+     * @return New QueryExecutor.
+     * @throws SQLException if the executor cannot be created, or asynchronous queries are not supported.
+     */
+    protected QueryExecutor createQueryExecutor() throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    /**
+     * Function to run {@link #executeQuery(String, java.sql.Statement)} on a thread dedicated to blocking queries.
+     * The query runs on a new executor from {@link #createQueryExecutor()}, so it is not cancelled by, and does not
+     * block, the queries of this executor. Cancelling the returned future cancels the query.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return CompletableFuture of the java.sql.ResultSet returned from query execution.
+     * @throws SQLException if the executor of the query cannot be created.
+     */
+    protected CompletableFuture<java.sql.ResultSet> executeQueryOnPool(final String sql,
+                                                                       final java.sql.Statement statement)
+            throws SQLException {
+        final QueryExecutor queryExecutor = createQueryExecutor();
+        queryExecutor.setQueryTimeout(getQueryTimeout());
+        queryExecutor.setFetchSize(getFetchSize());
+        final CompletableFuture<java.sql.ResultSet> query = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queryExecutor.executeQuery(sql, statement);
+            } catch (final SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, BLOCKING_QUERY_POOL);
+        return toCancellableFuture(query, () -> {
+            try {
+                queryExecutor.cancelQuery(true);
+            } catch (final SQLException e) {
+                LOGGER.warn("Failed to cancel asynchronous query.", e);
+            }
+        });
+    }
+
+    /**
+     * Function to expose an asynchronous query as a CompletableFuture which cancels the query when it is cancelled.
+     * Query failures are reported as SQLException.
+     *
+     * @param query  Asynchronous query producing the ResultSet.
+     * @param cancel Action cancelling the query.
+     * @return CompletableFuture of the java.sql.ResultSet returned from query execution.
+     */
+    protected static CompletableFuture<java.sql.ResultSet> toCancellableFuture(
+            final CompletionStage<? extends java.sql.ResultSet> query, final Runnable cancel) {
+        final CompletableFuture<java.sql.ResultSet> future = new CompletableFuture<>();
+        query.whenComplete((resultSet, error) -> {
+            if (error == null) {
+                if (!future.complete(resultSet)) {
+                    // The future was cancelled while the ResultSet was being built.
+                    closeQuietly(resultSet);
+                }
+                return;
+            }
+            final Throwable cause = (error instanceof CompletionException) && (error.getCause() != null)
+                    ? error.getCause()
+                    : error;
+            future.completeExceptionally(cause instanceof SQLException
+                    ? cause
+                    : SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.QUERY_FAILED,
+                    cause.getMessage()));
+        });
+        future.whenComplete((resultSet, error) -> {
+            if (future.isCancelled()) {
+                cancel.run();
+            }
+        });
+        return future;
+    }
+
+    private static void closeQuietly(final java.sql.ResultSet resultSet) {
+        try {
+            resultSet.close();
+        } catch (final SQLException e) {
+            LOGGER.warn("Failed to close ResultSet of cancelled query.", e);
+        }
+    }
+
+    /**
+     * Function to check whether batches of queries are supported.
+     *
+     * @return true if batches are supported, otherwise false.
+     */
+    public boolean supportsBatch() {
+        return false;
+    }
+
+    /**
+     * Function to execute a batch of queries. Queries are submitted without waiting for the previous ones to
+     * complete, and this returns once all of them have been submitted.
+     * <p>
+     * The caller can cancel the batch while the queries are being submitted by cancelling batchCancellation: the
+     * queries already submitted are cancelled and the remaining ones are not submitted.
+     *
+     * @param queries           Queries to execute.
+     * @param statement         java.sql.Statement Object required for result set.
+     * @param batchCancellation Future which is cancelled to cancel the batch.
+     * @return CompletableFuture of the java.sql.ResultSet of each query, in the order of the queries.
+     * @throws SQLException if the queries cannot be submitted.
+     */
+    public List<CompletableFuture<java.sql.ResultSet>> executeBatch(final List<String> queries,
+                                                                    final java.sql.Statement statement,
+                                                                    final CompletableFuture<Void> batchCancellation)
+            throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    /**
+     * Function to check whether queries can be executed with parameters.
+     *
+     * @return true if parameters are supported, otherwise false.
+     */
+    public boolean supportsParameters() {
+        return false;
+    }
+
+    /**
+     * Function to get the parameters of a query.
+     *
+     * @param sql Query to get the parameters of.
+     * @return ParameterMetaData of the query.
+     * @throws SQLException if parameters are not supported.
+     */
+    public ParameterMetaData getParameterMetaData(final String sql) throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    /**
+     * Function to execute query with parameters.
+     *
+     * @param sql        Query to execute.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @param parameters Values of the parameters, by parameter index starting at 1.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if query execution fails, or it was cancelled.
+     */
+    public java.sql.ResultSet executeQuery(final String sql, final java.sql.Statement statement,
+                                           final Map<Integer, Object> parameters) throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
     /**
      * Function to get tables.
      *
@@ -152,6 +354,25 @@ public abstract class QueryExecutor {
     protected <T> java.sql.ResultSet runCancellableQuery(final Constructor<?> constructor,
                                                          final java.sql.Statement statement,
                                                          final String query) throws SQLException {
+        return runCancellableQuery(constructor, statement, query, Collections.emptyMap());
+    }
+
+    /**
+     * This function is supposed to run the queries with parameters and construct the target ResultSet using
+     * reflection.
+     *
+     * @param constructor Target ResultSet type.
+     * @param statement   Statement which is issuing query.
+     * @param query       Query to execute.
+     * @param parameters  Values of the parameters, by parameter name.
+     * @return Target ResultSet Object.
+     * @throws SQLException if query execution fails, or it was cancelled.
+     */
+    protected <T> java.sql.ResultSet runCancellableQuery(final Constructor<?> constructor,
+                                                         final java.sql.Statement statement,
+                                                         final String query,
+                                                         final Map<String, Object> parameters)
+            throws SQLException {
         synchronized (lock) {
             if (queryState.equals(QueryState.IN_PROGRESS)) {
                 throw SqlError.createSQLException(
@@ -160,17 +381,16 @@ public abstract class QueryExecutor {
                         SqlError.QUERY_IN_PROGRESS);
             }
             queryState = QueryState.IN_PROGRESS;
+            timedOut = false;
         }
 
+        final ScheduledFuture<?> watchdog = scheduleTimeout();
         try {
-            final T intermediateResult = runQuery(query);
+            final T intermediateResult = runQuery(query, parameters);
             synchronized (lock) {
                 if (queryState.equals(QueryState.CANCELLED)) {
                     resetQueryState();
-                    throw SqlError.createSQLException(
-                            LOGGER,
-                            SqlState.OPERATION_CANCELED,
-                            SqlError.QUERY_CANCELED);
+                    throw createCancelledException();
                 }
                 resetQueryState();
             }
@@ -181,10 +401,7 @@ public abstract class QueryExecutor {
             synchronized (lock) {
                 if (queryState.equals(QueryState.CANCELLED)) {
                     resetQueryState();
-                    throw SqlError.createSQLException(
-                            LOGGER,
-                            SqlState.OPERATION_CANCELED,
-                            SqlError.QUERY_CANCELED);
+                    throw createCancelledException();
                 } else {
                     resetQueryState();
                     final StringWriter sw = new StringWriter();
@@ -196,15 +413,66 @@ public abstract class QueryExecutor {
                             SqlError.QUERY_FAILED, e + "Stack Trace: " + sw.toString());
                 }
             }
+        } finally {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
         }
     }
 
+    private ScheduledFuture<?> scheduleTimeout() {
+        final long timeoutMillis = getQueryTimeoutMillis();
+        if (timeoutMillis <= 0) {
+            return null;
+        }
+        // The executors also apply the timeout on the database, cancelling the query makes sure the client stops
+        // waiting even if the database never answers.
+        return TIMEOUT_WATCHDOG.schedule(() -> {
+            synchronized (lock) {
+                if (!queryState.equals(QueryState.IN_PROGRESS)) {
+                    return;
+                }
+                timedOut = true;
+            }
+            try {
+                cancelQuery(false);
+            } catch (final SQLException e) {
+                LOGGER.warn("Failed to cancel query after its timeout expired.", e);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private SQLException createCancelledException() {
+        if (timedOut) {
+            return SqlError.createSQLTimeoutException(LOGGER, SqlState.OPERATION_CANCELED, SqlError.QUERY_TIMED_OUT);
+        }
+        return SqlError.createSQLException(
+                LOGGER,
+                SqlState.OPERATION_CANCELED,
+                SqlError.QUERY_CANCELED);
+    }
+
     private void resetQueryState() {
         queryState = QueryState.NOT_STARTED;
     }
 
     protected abstract <T> T runQuery(final String query) throws SQLException;
 
+    /**
+     * Function to run a query with parameters. Executors which support parameters override this function.
+     *
+     * @param query      Query to execute.
+     * @param parameters Values of the parameters, by parameter name.
+     * @return Intermediate result used to construct the ResultSet.
+     * @throws SQLException if query execution fails, or parameters are not supported.
+     */
+    protected <T> T runQuery(final String query, final Map<String, Object> parameters) throws SQLException {
+        if (!parameters.isEmpty()) {
+            throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+        }
+        return runQuery(query);
+    }
+
     /**
      * Function to cancel running query.
      * This has to be run in the different thread from the one running the query.
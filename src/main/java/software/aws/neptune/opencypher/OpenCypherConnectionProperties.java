@@ -38,6 +38,7 @@ public class OpenCypherConnectionProperties extends ConnectionProperties {
     public static final String ENDPOINT_KEY = "endpoint";
     public static final String USE_ENCRYPTION_KEY = "useEncryption";
     public static final String CONNECTION_POOL_SIZE_KEY = "connectionPoolSize";
+    public static final String STREAM_RESULTS_KEY = "streamResults";
 
     // TODO: Revisit. We should probably support these.
     public static final String AWS_CREDENTIALS_PROVIDER_CLASS_KEY = "awsCredentialsProviderClass";
@@ -45,6 +46,7 @@ public class OpenCypherConnectionProperties extends ConnectionProperties {
 
     public static final int DEFAULT_CONNECTION_POOL_SIZE = 1000;
     public static final boolean DEFAULT_USE_ENCRYPTION = true;
+    public static final boolean DEFAULT_STREAM_RESULTS = false;
 
     public static final Map<String, Object> DEFAULT_PROPERTIES_MAP = new HashMap<>();
     private static final Map<String, ConnectionProperties.PropertyConverter<?>> PROPERTY_CONVERTER_MAP =
@@ -58,12 +60,14 @@ public class OpenCypherConnectionProperties extends ConnectionProperties {
         PROPERTY_CONVERTER_MAP.put(SERVICE_REGION_KEY, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(USE_ENCRYPTION_KEY, ConnectionProperties::toBoolean);
         PROPERTY_CONVERTER_MAP.put(CONNECTION_POOL_SIZE_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(STREAM_RESULTS_KEY, ConnectionProperties::toBoolean);
     }
 
     static {
         DEFAULT_PROPERTIES_MAP.put(ENDPOINT_KEY, "");
         DEFAULT_PROPERTIES_MAP.put(USE_ENCRYPTION_KEY, DEFAULT_USE_ENCRYPTION);
         DEFAULT_PROPERTIES_MAP.put(CONNECTION_POOL_SIZE_KEY, DEFAULT_CONNECTION_POOL_SIZE);
+        DEFAULT_PROPERTIES_MAP.put(STREAM_RESULTS_KEY, DEFAULT_STREAM_RESULTS);
     }
 
     /**
@@ -235,6 +239,25 @@ public class OpenCypherConnectionProperties extends ConnectionProperties {
         put(CONNECTION_POOL_SIZE_KEY, connectionPoolSize);
     }
 
+    /**
+     * Gets the stream results flag.
+     *
+     * @return The stream results flag.
+     */
+    public boolean getStreamResults() {
+        return (boolean) get(STREAM_RESULTS_KEY);
+    }
+
+    /**
+     * Sets the stream results flag. When enabled, openCypher query records are retrieved from the database one fetch
+     * window at a time while the ResultSet is iterated, instead of all at once before the query returns.
+     *
+     * @param streamResults The stream results flag.
+     */
+    public void setStreamResults(final boolean streamResults) {
+        put(STREAM_RESULTS_KEY, streamResults);
+    }
+
     /**
      * Validate the supported properties.
      */
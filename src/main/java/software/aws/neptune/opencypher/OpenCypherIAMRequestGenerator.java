@@ -39,7 +39,7 @@ import static com.amazonaws.auth.internal.SignerConstants.X_AMZ_SECURITY_TOKEN;
  * Class to help with IAM authentication.
  */
 public class OpenCypherIAMRequestGenerator {
-    private static final AWSCredentialsProvider AWS_CREDENTIALS_PROVIDER = new DefaultAWSCredentialsProviderChain();
+    static final AWSCredentialsProvider AWS_CREDENTIALS_PROVIDER = new DefaultAWSCredentialsProviderChain();
     static final String SERVICE_NAME = "neptune-db";
     static final String HTTP_METHOD_HDR = "HttpMethod";
     static final String DUMMY_USERNAME = "username";
@@ -53,6 +53,19 @@ public class OpenCypherIAMRequestGenerator {
      * @return AuthToken for IAM authentication.
      */
     public static AuthToken createAuthToken(final String url, final String region) {
+        return createAuthToken(url, region, AWS_CREDENTIALS_PROVIDER);
+    }
+
+    /**
+     * Function to generate AuthToken using IAM authentication.
+     *
+     * @param url                 URL to point at.
+     * @param region              Region to use.
+     * @param credentialsProvider Provider of the credentials to sign with.
+     * @return AuthToken for IAM authentication.
+     */
+    public static AuthToken createAuthToken(final String url, final String region,
+                                            final AWSCredentialsProvider credentialsProvider) {
         final Request<Void> request = new DefaultRequest<>(SERVICE_NAME);
         request.setHttpMethod(HttpMethodName.GET);
         request.setEndpoint(URI.create(url));
@@ -61,7 +74,7 @@ public class OpenCypherIAMRequestGenerator {
         final AWS4Signer signer = new AWS4Signer();
         signer.setRegionName(region);
         signer.setServiceName(request.getServiceName());
-        signer.sign(request, AWS_CREDENTIALS_PROVIDER.getCredentials());
+        signer.sign(request, credentialsProvider.getCredentials());
 
         return AuthTokens.basic(DUMMY_USERNAME, getAuthInfoJson(request));
     }
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.security.InternalAuthToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the IAM SigV4 AuthTokens of the Bolt drivers, by endpoint and region.
+ * <p>
+ * The driver reads its AuthToken each time it opens a connection, so the cached tokens are re-signed in the
+ * background before their signature expires, and the connections opened by a long-lived driver always get a valid
+ * signature without signing on the query path. Tokens which have not been used since their last refresh are not
+ * re-signed in the background, they are re-signed when they are next used.
+ */
+public class OpenCypherIAMTokenCache {
+    // Neptune accepts a signature for 5 minutes, tokens are re-signed ahead of that.
+    static final long DEFAULT_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(4);
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenCypherIAMTokenCache.class);
+    private static final OpenCypherIAMTokenCache INSTANCE = new OpenCypherIAMTokenCache(
+            OpenCypherIAMRequestGenerator.AWS_CREDENTIALS_PROVIDER, DEFAULT_REFRESH_INTERVAL_MILLIS);
+    private final Map<Map.Entry<String, String>, RefreshingAuthToken> tokens = new ConcurrentHashMap<>();
+    private final AWSCredentialsProvider credentialsProvider;
+    private final long refreshIntervalMillis;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("OpenCypherIAMTokenRefresher-%d").setDaemon(true).build());
+
+    /**
+     * OpenCypherIAMTokenCache constructor.
+     *
+     * @param credentialsProvider   Provider of the credentials to sign with.
+     * @param refreshIntervalMillis Time in milliseconds after which a token is re-signed.
+     */
+    OpenCypherIAMTokenCache(final AWSCredentialsProvider credentialsProvider, final long refreshIntervalMillis) {
+        this.credentialsProvider = credentialsProvider;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * Function to get the shared token cache, signing with the default credentials provider chain.
+     *
+     * @return Shared OpenCypherIAMTokenCache.
+     */
+    public static OpenCypherIAMTokenCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Function to get the AuthToken of an endpoint, signing it if it is not cached.
+     *
+     * @param url    URL to point at.
+     * @param region Region to use.
+     * @return AuthToken for IAM authentication, which stays signed while it is used.
+     */
+    public AuthToken getAuthToken(final String url, final String region) {
+        return tokens.computeIfAbsent(new AbstractMap.SimpleImmutableEntry<>(url, region), key -> {
+            final RefreshingAuthToken token = new RefreshingAuthToken(url, region);
+            refresher.scheduleWithFixedDelay(token::refreshIfUsed, refreshIntervalMillis, refreshIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+            return token;
+        });
+    }
+
+    /**
+     * Function to stop refreshing the tokens.
+     */
+    void shutdown() {
+        refresher.shutdownNow();
+        tokens.clear();
+    }
+
+    private Map<String, Value> sign(final String url, final String region) {
+        return ((InternalAuthToken) OpenCypherIAMRequestGenerator.createAuthToken(url, region, credentialsProvider))
+                .toMap();
+    }
+
+    /**
+     * AuthToken whose content is the latest signature of its endpoint.
+     */
+    private final class RefreshingAuthToken extends InternalAuthToken {
+        private final String url;
+        private final String region;
+        private volatile Map<String, Value> content;
+        private volatile long signedAtMillis;
+        private volatile boolean used = false;
+
+        private RefreshingAuthToken(final String url, final String region) {
+            this(url, region, sign(url, region));
+        }
+
+        private RefreshingAuthToken(final String url, final String region, final Map<String, Value> content) {
+            super(content);
+            this.url = url;
+            this.region = region;
+            this.content = content;
+            this.signedAtMillis = System.currentTimeMillis();
+        }
+
+        @Override
+        public Map<String, Value> toMap() {
+            used = true;
+            if (System.currentTimeMillis() - signedAtMillis >= refreshIntervalMillis) {
+                // Not refreshed in the background while it was unused.
+                refresh();
+            }
+            return content;
+        }
+
+        private void refreshIfUsed() {
+            if (!used) {
+                return;
+            }
+            used = false;
+            try {
+                refresh();
+            } catch (final RuntimeException e) {
+                // The token is re-signed when it is next used.
+                LOGGER.warn("Failed to refresh IAM AuthToken of {}.", url, e);
+            }
+        }
+
+        private synchronized void refresh() {
+            content = sign(url, region);
+            signedAtMillis = System.currentTimeMillis();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.jdbc.utilities.CastHelper;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParameterMetaData of an openCypher query, derived from its {@code $name} placeholders.
+ * <p>
+ * JDBC parameters are positional, parameter N is the Nth distinct placeholder in the order they first appear in the
+ * query. Placeholders are untyped, so all parameters are reported as {@link Types#JAVA_OBJECT}.
+ */
+public class OpenCypherParameterMetaData implements ParameterMetaData {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenCypherParameterMetaData.class);
+    private final List<String> parameterNames;
+
+    /**
+     * OpenCypherParameterMetaData constructor.
+     *
+     * @param query Query to get the parameters of.
+     */
+    public OpenCypherParameterMetaData(final String query) {
+        this.parameterNames = parseParameterNames(query);
+    }
+
+    /**
+     * Function to get the names of the placeholders of a query, in the order they first appear. Placeholders in
+     * string literals, quoted names and comments are ignored.
+     *
+     * @param query Query to parse.
+     * @return Distinct placeholder names, without the leading '$'.
+     */
+    public static List<String> parseParameterNames(final String query) {
+        final List<String> names = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            if (c == '\'' || c == '"' || c == '`') {
+                i = skipQuoted(query, i, c);
+            } else if (query.startsWith("//", i)) {
+                final int end = query.indexOf('\n', i);
+                i = (end < 0) ? query.length() : end + 1;
+            } else if (query.startsWith("/*", i)) {
+                final int end = query.indexOf("*/", i + 2);
+                i = (end < 0) ? query.length() : end + 2;
+            } else if (c == '$') {
+                final int start = i + 1;
+                String name = null;
+                if (start < query.length() && query.charAt(start) == '`') {
+                    i = skipQuoted(query, start, '`');
+                    name = query.substring(start + 1, Math.max(start + 1, i - 1)).replace("``", "`");
+                } else {
+                    i = start;
+                    while (i < query.length() && Character.isJavaIdentifierPart(query.charAt(i))) {
+                        i++;
+                    }
+                    if (i > start) {
+                        name = query.substring(start, i);
+                    }
+                }
+                if (name != null && !names.contains(name)) {
+                    names.add(name);
+                }
+            } else {
+                i++;
+            }
+        }
+        return names;
+    }
+
+    private static int skipQuoted(final String query, final int start, final char quote) {
+        int i = start + 1;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            if (c == '\\' && quote != '`') {
+                i += 2;
+            } else if (c == quote) {
+                // A doubled backtick is an escaped backtick within a quoted name.
+                if (quote == '`' && i + 1 < query.length() && query.charAt(i + 1) == '`') {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return query.length();
+    }
+
+    /**
+     * Function to get the placeholder name of a parameter.
+     *
+     * @param param Index of the parameter, starting at 1.
+     * @return Name of the placeholder, without the leading '$'.
+     * @throws SQLException if the query has no parameter with this index.
+     */
+    public String getParameterName(final int param) throws SQLException {
+        if ((param <= 0) || (param > parameterNames.size())) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.PARAMETER_INDEX_OUT_OF_RANGE,
+                    param, parameterNames.size());
+        }
+        return parameterNames.get(param - 1);
+    }
+
+    @Override
+    public int getParameterCount() {
+        return parameterNames.size();
+    }
+
+    @Override
+    public int isNullable(final int param) throws SQLException {
+        getParameterName(param);
+        return ParameterMetaData.parameterNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(final int param) throws SQLException {
+        getParameterName(param);
+        return false;
+    }
+
+    @Override
+    public int getPrecision(final int param) throws SQLException {
+        getParameterName(param);
+        return 0;
+    }
+
+    @Override
+    public int getScale(final int param) throws SQLException {
+        getParameterName(param);
+        return 0;
+    }
+
+    @Override
+    public int getParameterType(final int param) throws SQLException {
+        getParameterName(param);
+        return Types.JAVA_OBJECT;
+    }
+
+    @Override
+    public String getParameterTypeName(final int param) throws SQLException {
+        getParameterName(param);
+        return "ANY";
+    }
+
+    @Override
+    public String getParameterClassName(final int param) throws SQLException {
+        getParameterName(param);
+        return Object.class.getName();
+    }
+
+    @Override
+    public int getParameterMode(final int param) throws SQLException {
+        getParameterName(param);
+        return ParameterMetaData.parameterModeIn;
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return CastHelper.unwrap(iface, LOGGER, this);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return CastHelper.isWrapperFor(iface, this);
+    }
+}
@@ -24,6 +24,12 @@ import org.neo4j.driver.GraphDatabase;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.exceptions.ClientException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.aws.neptune.common.gremlindatamodel.MetadataCache;
@@ -31,6 +37,7 @@ import software.aws.neptune.jdbc.utilities.AuthScheme;
 import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
+import software.aws.neptune.opencypher.resultset.OpenCypherColumnTypes;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSet;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetCatalogs;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetColumns;
@@ -38,10 +45,23 @@ import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetSchemas;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetTableTypes;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetTables;
 import software.aws.neptune.opencypher.resultset.OpenCypherResultSetGetTypeInfo;
+import software.aws.neptune.opencypher.resultset.OpenCypherStreamingResultSet;
 
 import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.sql.Date;
 import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 public class OpenCypherQueryExecutor extends QueryExecutor {
@@ -51,7 +71,10 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
     private static Driver driver = null;
     private final OpenCypherConnectionProperties openCypherConnectionProperties;
     private final Object sessionLock = new Object();
+    // Session of the query of the statement until its records (or, when streamed, its first records) are available.
     private Session session = null;
+    // Set when the query is cancelled, possibly before its session is opened.
+    private boolean queryCancelled = false;
 
     OpenCypherQueryExecutor(final OpenCypherConnectionProperties openCypherConnectionProperties) {
         this.openCypherConnectionProperties = openCypherConnectionProperties;
@@ -75,8 +98,9 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
         AuthToken authToken = AuthTokens.none();
         if (openCypherConnectionProperties.getAuthScheme().equals(AuthScheme.IAMSigV4)) {
             LOGGER.info("Creating driver with IAMSigV4 authentication.");
-            authToken = OpenCypherIAMRequestGenerator
-                    .createAuthToken(openCypherConnectionProperties.getEndpoint(),
+            // The cached token stays signed while the driver opens new connections.
+            authToken = OpenCypherIAMTokenCache.getInstance()
+                    .getAuthToken(openCypherConnectionProperties.getEndpoint(),
                             openCypherConnectionProperties.getServiceRegion());
         }
         return GraphDatabase.driver(openCypherConnectionProperties.getEndpoint(), authToken, config);
@@ -115,13 +139,23 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
      */
     public boolean isValid(final int timeout) {
         try {
-            final Config config = createConfigBuilder().withConnectionTimeout(timeout, TimeUnit.SECONDS).build();
-            final Driver tempDriver;
+            // Validate over the pooled connections of the shared driver instead of creating a new driver.
+            final Driver sharedDriver;
             synchronized (DRIVER_LOCK) {
-                tempDriver = getDriver(config, openCypherConnectionProperties, true);
+                driver = getDriver(createConfigBuilder().build(), openCypherConnectionProperties, false);
+                sharedDriver = driver;
+            }
+            final CompletableFuture<Void> connectivity = sharedDriver.verifyConnectivityAsync().toCompletableFuture();
+            if (timeout == 0) {
+                connectivity.get();
+            } else {
+                connectivity.get(timeout, TimeUnit.SECONDS);
             }
-            tempDriver.verifyConnectivity();
             return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Connection to database returned an error:", e);
+            return false;
         } catch (final Exception e) {
             LOGGER.error("Connection to database returned an error:", e);
             return false;
@@ -158,9 +192,93 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
     @Override
     public java.sql.ResultSet executeQuery(final String sql, final java.sql.Statement statement) throws
             SQLException {
-        final Constructor<?> constructor;
         try {
-            constructor = OpenCypherResultSet.class
+            return runCancellableQuery(getResultSetConstructor(), statement, sql);
+        } finally {
+            clearCancellation();
+        }
+    }
+
+    @Override
+    public boolean supportsParameters() {
+        return true;
+    }
+
+    @Override
+    public OpenCypherParameterMetaData getParameterMetaData(final String sql) {
+        return new OpenCypherParameterMetaData(sql);
+    }
+
+    /**
+     * Function to execute a query with parameters.
+     * <p>
+     * The parameters are sent as Bolt parameters, parameter N is bound to the Nth distinct placeholder of the query,
+     * see {@link OpenCypherParameterMetaData}, so the server can reuse the plan of the query for different values.
+     *
+     * @param sql        Query to execute.
+     * @param statement  java.sql.Statement Object required for result set.
+     * @param parameters Values of the parameters, by parameter index.
+     * @return java.sql.ResultSet object returned from query execution.
+     * @throws SQLException if query execution fails, or it was cancelled.
+     */
+    @Override
+    public java.sql.ResultSet executeQuery(final String sql, final java.sql.Statement statement,
+                                           final Map<Integer, Object> parameters) throws SQLException {
+        final OpenCypherParameterMetaData parameterMetaData = getParameterMetaData(sql);
+        final Map<String, Object> boltParameters = new HashMap<>();
+        for (final Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+            boltParameters.put(parameterMetaData.getParameterName(parameter.getKey()),
+                    toBoltValue(parameter.getValue()));
+        }
+        try {
+            return runCancellableQuery(getResultSetConstructor(), statement, sql, boltParameters);
+        } finally {
+            clearCancellation();
+        }
+    }
+
+    private void clearCancellation() {
+        // A cancel is only requested while the query is in progress, it does not carry over to the next query.
+        synchronized (sessionLock) {
+            queryCancelled = false;
+        }
+    }
+
+    /**
+     * Function to convert a parameter value to a Bolt value. JDBC date and time values are sent as their local
+     * date and time, and BigDecimal values as floats, as Bolt has no decimal type.
+     *
+     * @param value Value of the parameter.
+     * @return Bolt value.
+     * @throws SQLException if the type of the value has no Bolt equivalent.
+     */
+    static Value toBoltValue(final Object value) throws SQLException {
+        final Object boltValue;
+        if (value instanceof Timestamp) {
+            boltValue = ((Timestamp) value).toLocalDateTime();
+        } else if (value instanceof Date) {
+            boltValue = ((Date) value).toLocalDate();
+        } else if (value instanceof Time) {
+            boltValue = ((Time) value).toLocalTime();
+        } else if (value instanceof BigDecimal) {
+            boltValue = ((BigDecimal) value).doubleValue();
+        } else {
+            boltValue = value;
+        }
+        try {
+            return Values.value(boltValue);
+        } catch (final ClientException e) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_TYPE_TRANSFORM_VIOLATION,
+                    SqlError.UNSUPPORTED_CLASS, value.getClass().getName());
+        }
+    }
+
+    private Constructor<?> getResultSetConstructor() throws SQLException {
+        try {
+            return openCypherConnectionProperties.getStreamResults()
+                    ? OpenCypherStreamingResultSet.class.getConstructor(java.sql.Statement.class,
+                    OpenCypherStreamingResultSet.ResultSetInfoWithStream.class)
+                    : OpenCypherResultSet.class
                     .getConstructor(java.sql.Statement.class, OpenCypherResultSet.ResultSetInfoWithRows.class);
         } catch (final NoSuchMethodException e) {
             throw SqlError.createSQLException(
@@ -168,7 +286,6 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
                     SqlState.INVALID_QUERY_EXPRESSION,
                     SqlError.QUERY_FAILED, e);
         }
-        return runCancellableQuery(constructor, statement, sql);
     }
 
     /**
@@ -253,31 +370,176 @@ public class OpenCypherQueryExecutor extends QueryExecutor {
         return new OpenCypherResultSetGetTypeInfo(statement);
     }
 
+    /**
+     * Function to execute query without blocking the calling thread, the query is run in an asynchronous session
+     * and its ResultSet is built by the thread receiving the records.
+     *
+     * @param sql       Query to execute.
+     * @param statement java.sql.Statement Object required for result set.
+     * @return CompletableFuture of the java.sql.ResultSet returned from query execution.
+     * @throws SQLException if the driver cannot be created.
+     */
+    @Override
+    public CompletableFuture<java.sql.ResultSet> executeQueryAsync(final String sql,
+                                                                   final java.sql.Statement statement)
+            throws SQLException {
+        final AsyncSession asyncSession = openAsyncSession();
+        final CompletionStage<java.sql.ResultSet> query = runAsync(asyncSession, sql, Collections.emptyMap())
+                .thenApply(resultSetInfo -> new OpenCypherResultSet(statement, resultSetInfo));
+        return toCancellableFuture(query, asyncSession::closeAsync);
+    }
+
+    /**
+     * Function to open a session for a single query. Sessions are cheap, each query gets its own session so the
+     * queries of the statements of a connection run concurrently over the connection pool of the driver, and each
+     * query can be cancelled through its own session.
+     *
+     * @return New Session.
+     * @throws SQLException if the driver cannot be created.
+     */
+    private Session openSession() throws SQLException {
+        synchronized (DRIVER_LOCK) {
+            driver = getDriver(createConfigBuilder().build(), openCypherConnectionProperties, false);
+            return driver.session(createSessionConfig());
+        }
+    }
+
+    /**
+     * Function to open an asynchronous session for a single query, see {@link #openSession()}.
+     *
+     * @return New AsyncSession.
+     * @throws SQLException if the driver cannot be created.
+     */
+    private AsyncSession openAsyncSession() throws SQLException {
+        synchronized (DRIVER_LOCK) {
+            driver = getDriver(createConfigBuilder().build(), openCypherConnectionProperties, false);
+            return driver.asyncSession();
+        }
+    }
+
+    private CompletionStage<OpenCypherResultSet.ResultSetInfoWithRows> runAsync(final AsyncSession asyncSession,
+                                                                              final String query,
+                                                                              final Map<String, Object> parameters) {
+        final CompletionStage<OpenCypherResultSet.ResultSetInfoWithRows> result =
+                asyncSession.runAsync(query, parameters, createTransactionConfig())
+                        .thenCompose(cursor -> {
+                            final List<Record> rows = new ArrayList<>();
+                            final OpenCypherColumnTypes columnTypes = new OpenCypherColumnTypes(cursor.keys().size());
+                            // Column types are widened as the records arrive, instead of in a pass over the rows.
+                            return cursor.forEachAsync(record -> {
+                                rows.add(record);
+                                columnTypes.addRecord(record);
+                            }).thenApply(summary -> new OpenCypherResultSet.ResultSetInfoWithRows(null, null, rows,
+                                    cursor.keys(), columnTypes.getColumnTypes()));
+                        });
+        // All records are retrieved before the ResultSet is built, so the session is closed once the query completes.
+        result.whenComplete((resultSetInfo, error) -> asyncSession.closeAsync());
+        return result;
+    }
+
+    private TransactionConfig createTransactionConfig() {
+        final TransactionConfig.Builder transactionConfig = TransactionConfig.builder();
+        final long timeoutMillis = getQueryTimeoutMillis();
+        if (timeoutMillis > 0) {
+            // The transaction of the query is terminated by the server when the timeout expires.
+            transactionConfig.withTimeout(Duration.ofMillis(timeoutMillis));
+        }
+        return transactionConfig.build();
+    }
+
+    private SessionConfig createSessionConfig() {
+        final SessionConfig.Builder sessionConfig = SessionConfig.builder();
+        if (openCypherConnectionProperties.getStreamResults() && getFetchSize() > 0) {
+            // The driver pulls at most this many records from the server before they are read.
+            sessionConfig.withFetchSize(getFetchSize());
+        }
+        return sessionConfig.build();
+    }
+
+    private long getSessionFetchSize() {
+        return getFetchSize() > 0 ? getFetchSize() : Config.defaultConfig().fetchSize();
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     protected <T> T runQuery(final String query) throws SQLException {
+        return runQuery(query, Collections.emptyMap());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T> T runQuery(final String query, final Map<String, Object> parameters) throws SQLException {
+        final Session querySession = openSession();
         synchronized (sessionLock) {
-            synchronized (DRIVER_LOCK) {
-                driver = getDriver(createConfigBuilder().build(), openCypherConnectionProperties, false);
+            if (queryCancelled) {
+                // Cancelled before the query was sent, the cancellation is reported once runQuery returns.
+                querySession.close();
+                return null;
+            }
+            session = querySession;
+        }
+        if (openCypherConnectionProperties.getStreamResults()) {
+            return (T) runStreamingQuery(querySession, query, parameters);
+        }
+        try {
+            final Result result = querySession.run(query, parameters, createTransactionConfig());
+            resetIfCancelled(querySession);
+            final List<Record> rows = new ArrayList<>();
+            final OpenCypherColumnTypes columnTypes = new OpenCypherColumnTypes(result.keys().size());
+            // Column types are widened as the records arrive, instead of in a pass over the rows.
+            while (result.hasNext()) {
+                final Record record = result.next();
+                rows.add(record);
+                columnTypes.addRecord(record);
+            }
+            return (T) new OpenCypherResultSet.ResultSetInfoWithRows(null, null, rows, result.keys(),
+                    columnTypes.getColumnTypes());
+        } finally {
+            // All records are retrieved before the ResultSet is built, so the session is closed once the query ends.
+            synchronized (sessionLock) {
+                session = null;
+                querySession.close();
             }
-            session = driver.session();
         }
+    }
 
-        final Result result = session.run(query);
-        final List<Record> rows = result.list();
-        final List<String> columns = result.keys();
-        final OpenCypherResultSet.ResultSetInfoWithRows openCypherResultSet =
-                new OpenCypherResultSet.ResultSetInfoWithRows(session, result, rows, columns);
+    private OpenCypherStreamingResultSet.ResultSetInfoWithStream runStreamingQuery(
+            final Session querySession, final String query, final Map<String, Object> parameters) {
+        // Records are pulled one fetch window at a time while the ResultSet is iterated, which closes the session.
+        // The first window is read while the session can still be reset by a cancel.
+        OpenCypherStreamingResultSet.ResultSetInfoWithStream resultSetInfo = null;
+        try {
+            final Result result = querySession.run(query, parameters, createTransactionConfig());
+            resetIfCancelled(querySession);
+            resultSetInfo = OpenCypherStreamingResultSet.ResultSetInfoWithStream.readFirstWindow(querySession, result,
+                    getSessionFetchSize());
+            return resultSetInfo;
+        } finally {
+            synchronized (sessionLock) {
+                session = null;
+                if (resultSetInfo == null || queryCancelled) {
+                    // No ResultSet owns the session: the query failed, or it is reported as cancelled.
+                    querySession.close();
+                }
+            }
+        }
+    }
+
+    private void resetIfCancelled(final Session querySession) {
         synchronized (sessionLock) {
-            session = null;
+            if (queryCancelled) {
+                // The cancel can reset the session before the driver sends the query, which then runs on.
+                //noinspection deprecation
+                querySession.reset();
+            }
         }
-        return (T) openCypherResultSet;
     }
 
     @Override
     protected void performCancel() throws SQLException {
         synchronized (sessionLock) {
+            queryCancelled = true;
             if (session != null) {
+                // Terminates the query on the database, the blocked query then fails.
                 //noinspection deprecation
                 session.reset();
             }
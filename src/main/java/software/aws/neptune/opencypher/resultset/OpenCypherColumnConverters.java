@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher.resultset;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+import software.aws.neptune.jdbc.utilities.JdbcType;
+import software.aws.neptune.opencypher.OpenCypherTypeMapping;
+import java.util.List;
+
+/**
+ * Per column Bolt to Java converters of an openCypher result.
+ * <p>
+ * Values are converted to the type of their column, see {@link OpenCypherColumnTypes}: integer values of a float
+ * column are converted to Double, and values of a String column to their String representation. The converter of
+ * a column is resolved from the first non null value of the column and used directly for every following value of
+ * the same Bolt type. Values of another type fall back to the type mapping lookup.
+ */
+final class OpenCypherColumnConverters {
+    private static final Type INTEGER = InternalTypeSystem.TYPE_SYSTEM.INTEGER();
+    private static final Type FLOAT = InternalTypeSystem.TYPE_SYSTEM.FLOAT();
+    private static final Type STRING = InternalTypeSystem.TYPE_SYSTEM.STRING();
+    private final List<Type> columnTypes;
+    private final Type[] types;
+    private final OpenCypherTypeMapping.Converter<?>[] converters;
+    private final JdbcType[] jdbcTypes;
+
+    /**
+     * OpenCypherColumnConverters constructor.
+     *
+     * @param columnTypes Bolt types of the columns of the result.
+     */
+    OpenCypherColumnConverters(final List<Type> columnTypes) {
+        this.columnTypes = columnTypes;
+        this.types = new Type[columnTypes.size()];
+        this.converters = new OpenCypherTypeMapping.Converter<?>[columnTypes.size()];
+        this.jdbcTypes = new JdbcType[columnTypes.size()];
+    }
+
+    /**
+     * Converts a value of the given column to the Java type of the column.
+     *
+     * @param column Zero based column index.
+     * @param value  Value to convert.
+     * @return Converted value.
+     */
+    Object convert(final int column, final Value value) {
+        if (value.isNull()) {
+            return null;
+        }
+        final Type type = value.type();
+        final Object converted;
+        if (type == types[column]) {
+            converted = converters[column].convert(value);
+        } else {
+            final OpenCypherTypeMapping.Converter<?> converter =
+                    OpenCypherTypeMapping.BOLT_TO_JAVA_TRANSFORM_MAP.get(type);
+            if (types[column] == null) {
+                types[column] = type;
+                converters[column] = converter;
+                jdbcTypes[column] = OpenCypherTypeMapping.BOLT_TO_JDBC_TYPE_MAP.get(type);
+            }
+            converted = converter.convert(value);
+        }
+        final Type columnType = getColumnType(column, type);
+        if (columnType.equals(type)) {
+            return converted;
+        }
+        if (columnType.equals(FLOAT)) {
+            return ((Long) converted).doubleValue();
+        }
+        return converted.toString();
+    }
+
+    /**
+     * Gets the JDBC type of a value of the given column.
+     *
+     * @param column Zero based column index.
+     * @param value  Value to get the JDBC type of.
+     * @return JDBC type of the value.
+     */
+    JdbcType getJdbcType(final int column, final Value value) {
+        final Type type = getColumnType(column, value.type());
+        if (type == types[column]) {
+            return jdbcTypes[column];
+        }
+        return OpenCypherTypeMapping.BOLT_TO_JDBC_TYPE_MAP.get(type);
+    }
+
+    /**
+     * Gets the type a value of the given column is converted to: the type of the column if the column was promoted
+     * to hold values of the type of the value, otherwise the type of the value.
+     *
+     * @param column Zero based column index.
+     * @param type   Bolt type of the value.
+     * @return Bolt type the value is converted to.
+     */
+    private Type getColumnType(final int column, final Type type) {
+        final Type columnType = columnTypes.get(column);
+        if (columnType.equals(STRING) || (columnType.equals(FLOAT) && type.equals(INTEGER))) {
+            return columnType;
+        }
+        return type;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher.resultset;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Bolt types of the columns of an openCypher result, widened as the records are read.
+ * <p>
+ * The type of a column starts unknown and becomes the type of its first non-null value. Integer and float values
+ * promote the column to float, any other mix of types makes it a String column. Columns with only null values are
+ * of the null type, and all columns are String columns while no record has been read.
+ */
+public class OpenCypherColumnTypes {
+    private static final Type NULL = InternalTypeSystem.TYPE_SYSTEM.NULL();
+    private static final Type INTEGER = InternalTypeSystem.TYPE_SYSTEM.INTEGER();
+    private static final Type FLOAT = InternalTypeSystem.TYPE_SYSTEM.FLOAT();
+    private static final Type STRING = InternalTypeSystem.TYPE_SYSTEM.STRING();
+    private final Type[] types;
+    private boolean hasRecords = false;
+
+    /**
+     * OpenCypherColumnTypes constructor.
+     *
+     * @param columnCount Number of columns of the result.
+     */
+    public OpenCypherColumnTypes(final int columnCount) {
+        this.types = new Type[columnCount];
+    }
+
+    /**
+     * Function to widen the column types to hold the values of a record.
+     *
+     * @param record Record of the result.
+     */
+    public void addRecord(final Record record) {
+        hasRecords = true;
+        for (int i = 0; i < types.length; i++) {
+            final Value value = record.get(i);
+            if (!value.isNull()) {
+                types[i] = promote(types[i], value.type());
+            }
+        }
+    }
+
+    private static Type promote(final Type columnType, final Type valueType) {
+        if (columnType == null || columnType.equals(valueType)) {
+            return valueType;
+        }
+        if ((columnType.equals(INTEGER) && valueType.equals(FLOAT))
+                || (columnType.equals(FLOAT) && valueType.equals(INTEGER))) {
+            return FLOAT;
+        }
+        return STRING;
+    }
+
+    /**
+     * Function to get the type of a column.
+     *
+     * @param index Zero based index of the column.
+     * @return Bolt type of the column from the records read so far.
+     */
+    public Type getType(final int index) {
+        final Type type = types[index];
+        if (type != null) {
+            return type;
+        }
+        return hasRecords ? NULL : STRING;
+    }
+
+    /**
+     * Function to get the column types, by column index. The list reflects the records read after it is returned.
+     *
+     * @return List of column types.
+     */
+    public List<Type> getColumnTypes() {
+        return new AbstractList<Type>() {
+            @Override
+            public Type get(final int index) {
+                return getType(index);
+            }
+
+            @Override
+            public int size() {
+                return types.length;
+            }
+        };
+    }
+}
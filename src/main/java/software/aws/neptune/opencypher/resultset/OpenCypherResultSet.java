@@ -22,7 +22,6 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Value;
-import org.neo4j.driver.internal.types.InternalTypeSystem;
 import org.neo4j.driver.types.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,10 +29,8 @@ import software.aws.neptune.common.ResultSetInfoWithoutRows;
 import software.aws.neptune.jdbc.ResultSet;
 import software.aws.neptune.jdbc.utilities.SqlError;
 import software.aws.neptune.jdbc.utilities.SqlState;
-import software.aws.neptune.opencypher.OpenCypherTypeMapping;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +44,8 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
     private final List<Record> rows;
     private final Result result;
     private final Session session;
+    private final OpenCypherColumnConverters columnConverters;
+    private final OpenCypherResultSetMetadata openCypherResultSetMetadata;
     private boolean wasNull = false;
 
     // TODO: Separate the result set without info to a common result set that this can use.
@@ -63,6 +62,8 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
         this.result = resultSetInfo.getResult();
         this.columns = resultSetInfo.getColumns();
         this.rows = resultSetInfo.getRows();
+        this.columnConverters = new OpenCypherColumnConverters(resultSetInfo.getColumnTypes());
+        this.openCypherResultSetMetadata = new OpenCypherResultSetMetadata(columns, resultSetInfo.getColumnTypes());
     }
 
     /**
@@ -77,6 +78,9 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
         this.result = null;
         this.columns = resultSetInfo.getColumns();
         this.rows = null;
+        final List<Type> columnTypes = new OpenCypherColumnTypes(columns.size()).getColumnTypes();
+        this.columnConverters = new OpenCypherColumnConverters(columnTypes);
+        this.openCypherResultSetMetadata = new OpenCypherResultSetMetadata(columns, columnTypes);
     }
 
     @Override
@@ -96,25 +100,11 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
 
     @Override
     protected ResultSetMetaData getResultMetadata() throws SQLException {
-        final List<Type> rowTypes = new ArrayList<>();
-        if (rows == null) {
-            for (int i = 0; i < columns.size(); i++) {
-                rowTypes.add(InternalTypeSystem.TYPE_SYSTEM.STRING());
-            }
-        } else {
-            // TODO: Loop through records and do some sort of type promotion.
-            final Record record = rows.get(0);
-            for (int i = 0; i < columns.size(); i++) {
-                rowTypes.add(record.get(i).type());
-            }
-        }
-        return new OpenCypherResultSetMetadata(columns, rowTypes);
+        return openCypherResultSetMetadata;
     }
 
     protected Object getConvertedValue(final int columnIndex) throws SQLException {
-        final Value value = getValue(columnIndex);
-        final OpenCypherTypeMapping.Converter<?> converter = getConverter(value);
-        return converter.convert(value);
+        return columnConverters.convert(columnIndex - 1, getValue(columnIndex));
     }
 
     private Value getValue(final int columnIndex) throws SQLException {
@@ -132,15 +122,11 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
         return value;
     }
 
-    protected OpenCypherTypeMapping.Converter<?> getConverter(final Value value) {
-        return OpenCypherTypeMapping.BOLT_TO_JAVA_TRANSFORM_MAP.get(value.type());
-    }
-
     @Override
     public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
         LOGGER.trace("Getting column {} as an Object using provided Map.", columnIndex);
         final Value value = getValue(columnIndex);
-        return getObject(columnIndex, map.get(OpenCypherTypeMapping.BOLT_TO_JDBC_TYPE_MAP.get(value.type()).name()));
+        return getObject(columnIndex, map.get(columnConverters.getJdbcType(columnIndex - 1, value).name()));
     }
 
     @AllArgsConstructor
@@ -150,5 +136,6 @@ public class OpenCypherResultSet extends ResultSet implements java.sql.ResultSet
         private final Result result;
         private final List<Record> rows;
         private final List<String> columns;
+        private final List<Type> columnTypes;
     }
 }
@@ -47,7 +47,6 @@ public class OpenCypherResultSetMetadata extends ResultSetMetaData
      * @return Bolt Type Object for column.
      */
     protected Type getColumnBoltType(final int column) {
-        // TODO: Loop rows to find common type and cache it.
         return columnTypes.get(column - 1);
     }
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher.resultset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.types.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.jdbc.ResultSet;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * OpenCypher ResultSet which reads the records from the Bolt Result while it is iterated.
+ * <p>
+ * The driver pulls the records from the server one fetch window at a time, so only the current window is held in
+ * memory. The column types are inferred from the records of the first fetch window, which are read ahead when the
+ * query is executed, and do not change afterwards. The session of the query is closed once all records are read
+ * or the ResultSet is closed.
+ */
+public class OpenCypherStreamingResultSet extends ResultSet implements java.sql.ResultSet {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpenCypherStreamingResultSet.class);
+    private final List<String> columns;
+    private final Result result;
+    private final long fetchSize;
+    private final OpenCypherResultSetMetadata openCypherResultSetMetadata;
+    private final OpenCypherColumnConverters columnConverters;
+    // Records read ahead to infer the column types, returned before the remaining records of the result.
+    private final Queue<Record> windowRecords;
+    // Failure while reading ahead, reported once the records read before it are returned.
+    private final Neo4jException windowFailure;
+    private Session session;
+    // Current record, null before the first and after the last record.
+    private Record record = null;
+    private int rowNumber = 0;
+    private boolean afterLast = false;
+    private boolean wasNull = false;
+
+    /**
+     * OpenCypherStreamingResultSet constructor, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public OpenCypherStreamingResultSet(final java.sql.Statement statement,
+                                        final ResultSetInfoWithStream resultSetInfo) {
+        // 1 for row count as placeholder, rows are counted as they are read.
+        super(statement, resultSetInfo.getColumns(), 1);
+        this.session = resultSetInfo.getSession();
+        this.result = resultSetInfo.getResult();
+        this.columns = resultSetInfo.getColumns();
+        this.fetchSize = resultSetInfo.getFetchSize();
+        this.windowRecords = new ArrayDeque<>(resultSetInfo.getWindowRecords());
+        this.windowFailure = resultSetInfo.getWindowFailure();
+        // The types of the first fetch window are kept for the whole result, the metadata must not change.
+        this.openCypherResultSetMetadata = new OpenCypherResultSetMetadata(columns, resultSetInfo.getColumnTypes());
+        this.columnConverters = new OpenCypherColumnConverters(resultSetInfo.getColumnTypes());
+    }
+
+    @Override
+    protected void doClose() throws SQLException {
+        record = null;
+        windowRecords.clear();
+        releaseSession();
+    }
+
+    private void releaseSession() {
+        if (session != null) {
+            try {
+                // Discards the records which have not been pulled instead of reading them.
+                result.consume();
+            } catch (final Neo4jException e) {
+                LOGGER.warn("Failed to discard the remaining records of the query: '" + e.getMessage() + "'");
+            } finally {
+                session.close();
+                session = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        verifyOpen();
+        if (afterLast) {
+            return false;
+        }
+        if (!windowRecords.isEmpty()) {
+            record = windowRecords.poll();
+            rowNumber++;
+            return true;
+        }
+        if (windowFailure != null) {
+            throw fail(windowFailure);
+        }
+        try {
+            if (result.hasNext()) {
+                record = result.next();
+                rowNumber++;
+                return true;
+            }
+        } catch (final Neo4jException e) {
+            throw fail(e);
+        }
+        record = null;
+        afterLast = true;
+        releaseSession();
+        return false;
+    }
+
+    private SQLException fail(final Neo4jException e) {
+        record = null;
+        afterLast = true;
+        releaseSession();
+        return SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.QUERY_FAILED, e);
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        verifyOpen();
+        return rowNumber == 0 && !afterLast;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        verifyOpen();
+        return afterLast;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        verifyOpen();
+        return rowNumber == 1 && !afterLast;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        verifyOpen();
+        return afterLast ? 0 : rowNumber;
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    protected int getDriverFetchSize() throws SQLException {
+        return (int) fetchSize;
+    }
+
+    @Override
+    protected void setDriverFetchSize(final int rows) {
+        // The fetch size of the session is fixed once the query runs.
+        LOGGER.warn("Fetch size of a streamed openCypher result cannot be changed after the query is executed.");
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return wasNull;
+    }
+
+    @Override
+    protected ResultSetMetaData getResultMetadata() throws SQLException {
+        return openCypherResultSetMetadata;
+    }
+
+    protected Object getConvertedValue(final int columnIndex) throws SQLException {
+        return columnConverters.convert(columnIndex - 1, getValue(columnIndex));
+    }
+
+    private Value getValue(final int columnIndex) throws SQLException {
+        verifyOpen();
+        if (record == null) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_INDEX,
+                    getRow(), rowNumber);
+        }
+        if ((columnIndex <= 0) || (columnIndex > columns.size())) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_COLUMN_INDEX,
+                    columnIndex, columns.size());
+        }
+        final Value value = record.get(columnIndex - 1);
+        wasNull = value.isNull();
+        return value;
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        LOGGER.trace("Getting column {} as an Object using provided Map.", columnIndex);
+        final Value value = getValue(columnIndex);
+        return getObject(columnIndex, map.get(columnConverters.getJdbcType(columnIndex - 1, value).name()));
+    }
+
+    /**
+     * Running openCypher query whose records are read from its Result as the ResultSet is iterated.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        private final Session session;
+        private final Result result;
+        private final List<String> columns;
+        private final long fetchSize;
+        private final List<Record> windowRecords;
+        private final List<Type> columnTypes;
+        private final Neo4jException windowFailure;
+
+        /**
+         * Function to read the records of the first fetch window of a query, to infer the column types. Waits for
+         * the server, so the caller must keep the session cancellable until it returns.
+         *
+         * @param session   Session of the query.
+         * @param result    Result of the query.
+         * @param fetchSize Number of records the driver pulls at a time.
+         * @return ResultSetInfoWithStream of the query.
+         */
+        public static ResultSetInfoWithStream readFirstWindow(final Session session, final Result result,
+                                                              final long fetchSize) {
+            final List<String> columns = result.keys();
+            final List<Record> windowRecords = new ArrayList<>();
+            final OpenCypherColumnTypes columnTypes = new OpenCypherColumnTypes(columns.size());
+            Neo4jException windowFailure = null;
+            try {
+                while (windowRecords.size() < fetchSize && result.hasNext()) {
+                    final Record windowRecord = result.next();
+                    windowRecords.add(windowRecord);
+                    columnTypes.addRecord(windowRecord);
+                }
+            } catch (final Neo4jException e) {
+                windowFailure = e;
+            }
+            return new ResultSetInfoWithStream(session, result, columns, fetchSize, windowRecords,
+                    new ArrayList<>(columnTypes.getColumnTypes()), windowFailure);
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class SparqlConnection extends Connection implements java.sql.Connection
 
     @Override
     protected void doClose() {
-        SparqlQueryExecutor.close();
+        SparqlQueryExecutor.close(sparqlConnectionProperties);
     }
 
     @Override
@@ -52,7 +52,18 @@ public class SparqlConnectionProperties extends ConnectionProperties {
     public static final String ACCEPT_HEADER_DATASET_KEY = "acceptHeaderDataset";
     public static final String HTTP_CLIENT_KEY = "httpClient";
     public static final String HTTP_CONTEXT_KEY = "httpContext";
+    public static final String STREAM_RESULTS_KEY = "streamResults";
+    public static final String TYPE_INFERENCE_WINDOW_KEY = "typeInferenceWindow";
+    // Settings of the HTTP client pooling the connections to the endpoint.
+    public static final String MAX_CONNECTIONS_KEY = "maxConnections";
+    public static final String KEEP_ALIVE_TIME_KEY = "keepAliveTime";
+    public static final String IDLE_CONNECTION_TIMEOUT_KEY = "idleConnectionTimeout";
     public static final int DEFAULT_PORT = 8182; // Neptune default port
+    public static final boolean DEFAULT_STREAM_RESULTS = false;
+    public static final int DEFAULT_TYPE_INFERENCE_WINDOW = 1000;
+    public static final int DEFAULT_MAX_CONNECTIONS = 20;
+    public static final int DEFAULT_KEEP_ALIVE_TIME = 60000;
+    public static final int DEFAULT_IDLE_CONNECTION_TIMEOUT = 30000;
     // Because RDFConnection builder does not include all the Neptune supported media-types in its default header, we
     // are adding them into DEFAULT_PROPERTIES_MAP. These also include the media-types supported by Jena
     // QueryExecution, the query engine we use.
@@ -79,6 +90,11 @@ public class SparqlConnectionProperties extends ConnectionProperties {
             .add(PARSE_CHECK_SPARQL_KEY)
             .add(HTTP_CLIENT_KEY)
             .add(HTTP_CONTEXT_KEY)
+            .add(STREAM_RESULTS_KEY)
+            .add(TYPE_INFERENCE_WINDOW_KEY)
+            .add(MAX_CONNECTIONS_KEY)
+            .add(KEEP_ALIVE_TIME_KEY)
+            .add(IDLE_CONNECTION_TIMEOUT_KEY)
             .build();
 
     // property converter parses on the in-coming connection string
@@ -93,6 +109,11 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         PROPERTY_CONVERTER_MAP.put(ACCEPT_HEADER_DATASET_KEY, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(ACCEPT_HEADER_QUERY_KEY, (key, value) -> value);
         PROPERTY_CONVERTER_MAP.put(ACCEPT_HEADER_SELECT_QUERY_KEY, (key, value) -> value);
+        PROPERTY_CONVERTER_MAP.put(STREAM_RESULTS_KEY, ConnectionProperties::toBoolean);
+        PROPERTY_CONVERTER_MAP.put(TYPE_INFERENCE_WINDOW_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(MAX_CONNECTIONS_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(KEEP_ALIVE_TIME_KEY, ConnectionProperties::toUnsigned);
+        PROPERTY_CONVERTER_MAP.put(IDLE_CONNECTION_TIMEOUT_KEY, ConnectionProperties::toUnsigned);
     }
 
     static {
@@ -102,6 +123,11 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         DEFAULT_PROPERTIES_MAP.put(QUERY_ENDPOINT_KEY, "");
         DEFAULT_PROPERTIES_MAP.put(DESTINATION_KEY, "");
         DEFAULT_PROPERTIES_MAP.put(ACCEPT_HEADER_QUERY_KEY, NEPTUNE_ACCEPTED_HEADERS);
+        DEFAULT_PROPERTIES_MAP.put(STREAM_RESULTS_KEY, DEFAULT_STREAM_RESULTS);
+        DEFAULT_PROPERTIES_MAP.put(TYPE_INFERENCE_WINDOW_KEY, DEFAULT_TYPE_INFERENCE_WINDOW);
+        DEFAULT_PROPERTIES_MAP.put(MAX_CONNECTIONS_KEY, DEFAULT_MAX_CONNECTIONS);
+        DEFAULT_PROPERTIES_MAP.put(KEEP_ALIVE_TIME_KEY, DEFAULT_KEEP_ALIVE_TIME);
+        DEFAULT_PROPERTIES_MAP.put(IDLE_CONNECTION_TIMEOUT_KEY, DEFAULT_IDLE_CONNECTION_TIMEOUT);
     }
 
     /**
@@ -396,6 +422,128 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         put(PARSE_CHECK_SPARQL_KEY, parseCheckSparql);
     }
 
+    /**
+     * Gets the stream results flag.
+     *
+     * @return The stream results flag.
+     */
+    public boolean getStreamResults() {
+        return (boolean) get(STREAM_RESULTS_KEY);
+    }
+
+    /**
+     * Sets the stream results flag. When enabled, the solutions of SPARQL SELECT queries are read from the response
+     * while the ResultSet is iterated, instead of all at once before the query returns.
+     *
+     * @param streamResults The stream results flag.
+     */
+    public void setStreamResults(final boolean streamResults) {
+        put(STREAM_RESULTS_KEY, streamResults);
+    }
+
+    /**
+     * Gets the number of solutions read ahead to infer the column types of a streamed SELECT query.
+     *
+     * @return The type inference window.
+     */
+    public int getTypeInferenceWindow() {
+        return (int) get(TYPE_INFERENCE_WINDOW_KEY);
+    }
+
+    /**
+     * Sets the number of solutions read ahead to infer the column types of a streamed SELECT query.
+     *
+     * @param typeInferenceWindow The type inference window.
+     * @throws SQLException if value is invalid.
+     */
+    public void setTypeInferenceWindow(final int typeInferenceWindow) throws SQLException {
+        if (typeInferenceWindow < 0) {
+            throw invalidConnectionPropertyError(TYPE_INFERENCE_WINDOW_KEY, typeInferenceWindow);
+        }
+        put(TYPE_INFERENCE_WINDOW_KEY, typeInferenceWindow);
+    }
+
+    /**
+     * Gets the maximum number of HTTP connections to the endpoint.
+     *
+     * @return The maximum number of connections.
+     */
+    public int getMaxConnections() {
+        return (int) get(MAX_CONNECTIONS_KEY);
+    }
+
+    /**
+     * Sets the maximum number of HTTP connections to the endpoint, shared by the connections using the same endpoint.
+     *
+     * @param maxConnections The maximum number of connections.
+     * @throws SQLException if value is invalid.
+     */
+    public void setMaxConnections(final int maxConnections) throws SQLException {
+        if (maxConnections < 1) {
+            throw invalidConnectionPropertyError(MAX_CONNECTIONS_KEY, maxConnections);
+        }
+        put(MAX_CONNECTIONS_KEY, maxConnections);
+    }
+
+    /**
+     * Gets the time in milliseconds an HTTP connection is kept open for reuse after a request.
+     *
+     * @return The keep-alive time in milliseconds.
+     */
+    public int getKeepAliveTime() {
+        return (int) get(KEEP_ALIVE_TIME_KEY);
+    }
+
+    /**
+     * Sets the time in milliseconds an HTTP connection is kept open for reuse after a request. A shorter keep-alive
+     * timeout sent by the server takes precedence, and 0 keeps connections for as long as the server allows.
+     *
+     * @param keepAliveTime The keep-alive time in milliseconds.
+     * @throws SQLException if value is invalid.
+     */
+    public void setKeepAliveTime(final int keepAliveTime) throws SQLException {
+        if (keepAliveTime < 0) {
+            throw invalidConnectionPropertyError(KEEP_ALIVE_TIME_KEY, keepAliveTime);
+        }
+        put(KEEP_ALIVE_TIME_KEY, keepAliveTime);
+    }
+
+    /**
+     * Gets the time in milliseconds after which idle HTTP connections are closed.
+     *
+     * @return The idle connection timeout in milliseconds.
+     */
+    public int getIdleConnectionTimeout() {
+        return (int) get(IDLE_CONNECTION_TIMEOUT_KEY);
+    }
+
+    /**
+     * Sets the time in milliseconds after which idle HTTP connections are closed in the background, 0 to not close
+     * idle connections.
+     *
+     * @param idleConnectionTimeout The idle connection timeout in milliseconds.
+     * @throws SQLException if value is invalid.
+     */
+    public void setIdleConnectionTimeout(final int idleConnectionTimeout) throws SQLException {
+        if (idleConnectionTimeout < 0) {
+            throw invalidConnectionPropertyError(IDLE_CONNECTION_TIMEOUT_KEY, idleConnectionTimeout);
+        }
+        put(IDLE_CONNECTION_TIMEOUT_KEY, idleConnectionTimeout);
+    }
+
+    /**
+     * Validates that no custom HttpClient is given with IAMSigV4 authentication, whose requests are signed by the
+     * HTTP client of the driver.
+     *
+     * @throws SQLException if both IAMSigV4 authentication and a custom HttpClient are given.
+     */
+    void validateHttpClient() throws SQLException {
+        if (AuthScheme.IAMSigV4.equals(getAuthScheme()) && getHttpClient() != null) {
+            throw invalidConnectionPropertyValueError(AUTH_SCHEME_KEY, "IAMSigV4 does not support custom " +
+                    "HttpClient input. Set AuthScheme to None to pass in custom HttpClient.");
+        }
+    }
+
     /**
      * Validate the supported properties.
      */
@@ -404,13 +552,8 @@ public class SparqlConnectionProperties extends ConnectionProperties {
         if (AuthScheme.IAMSigV4.equals(getAuthScheme())) {
             // If IAMSigV4 is specified, we need the region provided to us.
             validateServiceRegionEnvVariable();
-
-            // Throw exception if both IAM AUTH and HTTP_CLIENT_KEY are given
-            if (getHttpClient() != null) {
-                throw invalidConnectionPropertyValueError(AUTH_SCHEME_KEY, "IAMSigV4 does not support custom" +
-                        "HttpClient input. Set AuthScheme to None to pass in custom HttpClient.");
-            }
         }
+        validateHttpClient();
 
         if ("".equals(getEndpoint()) || getPort() < 0) {
             throw missingConnectionPropertyError(
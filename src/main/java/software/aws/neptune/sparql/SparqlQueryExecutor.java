@@ -20,17 +20,28 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.neptune.auth.NeptuneApacheHttpSigV4Signer;
 import com.amazonaws.neptune.auth.NeptuneSigV4SignerException;
+import com.google.common.collect.ImmutableList;
 import lombok.SneakyThrows;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.NoHttpResponseException;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.HttpContext;
 import org.apache.jena.atlas.iterator.PeekIterator;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryCancelledException;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QueryFactory;
 import org.apache.jena.query.QuerySolution;
@@ -56,26 +67,65 @@ import software.aws.neptune.sparql.resultset.SparqlResultSetGetTableTypes;
 import software.aws.neptune.sparql.resultset.SparqlResultSetGetTables;
 import software.aws.neptune.sparql.resultset.SparqlResultSetGetTypeInfo;
 import software.aws.neptune.sparql.resultset.SparqlSelectResultSet;
+import software.aws.neptune.sparql.resultset.SparqlStreamingSelectResultSet;
 import software.aws.neptune.sparql.resultset.SparqlTriplesResultSet;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 public class SparqlQueryExecutor extends QueryExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(SparqlQueryExecutor.class);
-    private static final Object RDF_CONNECTION_LOCK = new Object();
-    private static RDFConnection rdfConnection = null;
-    private static SparqlConnectionProperties previousSparqlConnectionProperties = null;
-    private static QueryExecution queryExecution = null;
+    private static final Object HTTP_CLIENT_LOCK = new Object();
+    // Connection properties which configure the HTTP client of a connection.
+    private static final List<String> HTTP_CLIENT_PROPERTY_KEYS = ImmutableList.of(
+            SparqlConnectionProperties.ENDPOINT_KEY,
+            SparqlConnectionProperties.PORT_KEY,
+            SparqlConnectionProperties.AUTH_SCHEME_KEY,
+            SparqlConnectionProperties.SERVICE_REGION_KEY,
+            SparqlConnectionProperties.MAX_CONNECTIONS_KEY,
+            SparqlConnectionProperties.KEEP_ALIVE_TIME_KEY,
+            SparqlConnectionProperties.IDLE_CONNECTION_TIMEOUT_KEY);
+    // HTTP clients in use, keyed by HTTP client identity.
+    private static final Map<Map<String, Object>, HttpClientEntry> HTTP_CLIENTS = new HashMap<>();
+    // HTTP client identity used by each connection. A connection is identified by its properties instance, which is
+    // shared by all of its statements.
+    private static final Map<SparqlConnectionProperties, Map<String, Object>> CONNECTION_HTTP_CLIENTS =
+            new IdentityHashMap<>();
+    // Number of times a request which failed without a response is retried.
+    private static final int NO_HTTP_RESPONSE_RETRY_COUNT = 3;
+    private static final String VALIDATION_QUERY = "SELECT * { ?s ?p ?o } LIMIT 0";
+    private static final int PARSED_QUERY_CACHE_SIZE = 1000;
+    // Parsed queries by query text, least recently used first.
+    private static final Map<String, Query> PARSED_QUERIES = new LinkedHashMap<String, Query>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Query> eldest) {
+            return size() > PARSED_QUERY_CACHE_SIZE;
+        }
+    };
+    private static final String STREAMING_ACCEPT_HEADER_SELECT_QUERY =
+            "application/sparql-results+xml, application/sparql-results+json;q=0.9";
     private final Object queryExecutionLock = new Object();
+    // RDF connection of this executor over the shared HTTP client, created on first use.
+    private RDFConnection rdfConnection = null;
+    // Execution of the query running on the statement of this executor, null when no query is running.
+    private QueryExecution queryExecution = null;
+    // Set when the query is cancelled before its execution is created.
+    private boolean cancelled = false;
+    // Set once the query returned, so a cancel arriving before its ResultSet is built does not affect the next query.
+    private boolean queryFinished = false;
     private final SparqlConnectionProperties sparqlConnectionProperties;
 
     SparqlQueryExecutor(final SparqlConnectionProperties sparqlConnectionProperties) throws SQLException {
@@ -83,10 +133,13 @@ public class SparqlQueryExecutor extends QueryExecutor {
     }
 
     /***
-     * Creates a Jena RDF remote connection builder from Sparql connection properties
+     * Creates a Jena RDF remote connection builder from Sparql connection properties.
+     * Unless the properties set an httpClient, the builder uses the pooled HTTP client of the properties, which is
+     * held for the properties until {@link #close(SparqlConnectionProperties)} is called with them: callers must call
+     * it once they are done with the RDF connection.
      * @param properties Sparql connection properties
      * @return a Jena RDF remote connection builder
-     * @throws SQLException if remote connection builder fails, or it was cancelled.
+     * @throws SQLException if remote connection builder fails, or both IAMSigV4 and an httpClient are set.
      */
     public static RDFConnectionRemoteBuilder createRDFBuilder(final SparqlConnectionProperties properties)
             throws SQLException {
@@ -114,16 +167,21 @@ public class SparqlQueryExecutor extends QueryExecutor {
 
         if (properties.containsKey(SparqlConnectionProperties.ACCEPT_HEADER_SELECT_QUERY_KEY)) {
             builder.acceptHeaderSelectQuery(properties.getAcceptHeaderSelectQuery());
+        } else if (properties.getStreamResults()) {
+            // Jena reads SPARQL XML results incrementally, JSON results are parsed whole before they are returned.
+            builder.acceptHeaderSelectQuery(STREAMING_ACCEPT_HEADER_SELECT_QUERY);
         }
 
         if (properties.containsKey(SparqlConnectionProperties.PARSE_CHECK_SPARQL_KEY)) {
             builder.parseCheckSPARQL(properties.getParseCheckSparql());
         }
 
-        if (properties.getAuthScheme() == AuthScheme.IAMSigV4) {
-            builder.httpClient(createV4SigningClient(properties));
-        } else if (properties.containsKey(SparqlConnectionProperties.HTTP_CLIENT_KEY)) {
+        // The properties can be changed after they are validated, a custom HTTP client would not sign the requests.
+        properties.validateHttpClient();
+        if (properties.containsKey(SparqlConnectionProperties.HTTP_CLIENT_KEY)) {
             builder.httpClient(properties.getHttpClient());
+        } else {
+            builder.httpClient(getHttpClient(properties));
         }
 
         if (properties.containsKey(SparqlConnectionProperties.HTTP_CONTEXT_KEY)) {
@@ -133,66 +191,193 @@ public class SparqlQueryExecutor extends QueryExecutor {
         return builder;
     }
 
+    /**
+     * Function to get the identity of the HTTP client built from the connection properties, made of the properties
+     * which configure the HTTP client. The endpoint is compared case-insensitively.
+     *
+     * @param sparqlConnectionProperties Connection properties.
+     * @return HTTP client identity.
+     */
+    static Map<String, Object> getHttpClientIdentity(final SparqlConnectionProperties sparqlConnectionProperties) {
+        final Map<String, Object> identity = new TreeMap<>();
+        for (final String key : HTTP_CLIENT_PROPERTY_KEYS) {
+            if (sparqlConnectionProperties.containsKey(key)) {
+                final Object value = sparqlConnectionProperties.get(key);
+                identity.put(key, SparqlConnectionProperties.ENDPOINT_KEY.equals(key)
+                        ? value.toString().trim().toLowerCase(Locale.ROOT)
+                        : value);
+            }
+        }
+        return identity;
+    }
+
+    /**
+     * Function to get the pooled HTTP client of the endpoint of the connection properties. The HTTP client is shared by
+     * the connections to the same endpoint with the same HTTP client settings, it must not be closed by the caller.
+     *
+     * @param sparqlConnectionProperties Connection properties of the HTTP client.
+     * @return Pooled HTTP client, signing the requests if IAM authentication is enabled.
+     * @throws SQLException if the HTTP client cannot be created.
+     */
+    static HttpClient getHttpClient(final SparqlConnectionProperties sparqlConnectionProperties)
+            throws SQLException {
+        synchronized (HTTP_CLIENT_LOCK) {
+            final Map<String, Object> identity = getHttpClientIdentity(sparqlConnectionProperties);
+            final Map<String, Object> previousIdentity = CONNECTION_HTTP_CLIENTS.get(sparqlConnectionProperties);
+            if (previousIdentity != null && !previousIdentity.equals(identity)) {
+                // The connection properties changed since the connection started using its HTTP client.
+                releaseHttpClient(sparqlConnectionProperties);
+            }
+            HttpClientEntry entry = HTTP_CLIENTS.get(identity);
+            if (entry == null) {
+                entry = new HttpClientEntry(createHttpClient(sparqlConnectionProperties));
+                HTTP_CLIENTS.put(identity, entry);
+            }
+            if (CONNECTION_HTTP_CLIENTS.put(sparqlConnectionProperties, identity) == null) {
+                entry.referenceCount++;
+            }
+            return entry.httpClient;
+        }
+    }
+
+    private static void releaseHttpClient(final SparqlConnectionProperties sparqlConnectionProperties) {
+        final Map<String, Object> identity = CONNECTION_HTTP_CLIENTS.remove(sparqlConnectionProperties);
+        if (identity == null) {
+            return;
+        }
+        final HttpClientEntry entry = HTTP_CLIENTS.get(identity);
+        if (entry != null && --entry.referenceCount == 0) {
+            HTTP_CLIENTS.remove(identity);
+            entry.close();
+        }
+    }
+
+    /**
+     * Function to release the HTTP client used by a connection. The HTTP client and its pooled connections are closed
+     * once no open connection uses them.
+     *
+     * @param sparqlConnectionProperties Connection properties of the closing connection.
+     */
+    public static void close(final SparqlConnectionProperties sparqlConnectionProperties) {
+        synchronized (HTTP_CLIENT_LOCK) {
+            releaseHttpClient(sparqlConnectionProperties);
+        }
+    }
+
+    private static CloseableHttpClient createHttpClient(final SparqlConnectionProperties properties)
+            throws SQLException {
+        final long keepAliveTime = properties.getKeepAliveTime();
+        final int maxConnections = properties.getMaxConnections();
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                        .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                        .build());
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        final HttpClientBuilder builder = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .setRetryHandler((exception, executionCount, context) -> {
+                    if (exception instanceof NoHttpResponseException) {
+                        // A pooled connection closed by the endpoint, e.g. when it restarted, fails without a
+                        // response. The other idle connections are likely closed as well, so they are discarded and
+                        // the request is retried on a new connection.
+                        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+                        return executionCount <= NO_HTTP_RESPONSE_RETRY_COUNT;
+                    }
+                    return DefaultHttpRequestRetryHandler.INSTANCE.retryRequest(exception, executionCount, context);
+                })
+                .setKeepAliveStrategy((response, context) -> {
+                    final long serverKeepAliveTime =
+                            DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    if (keepAliveTime == 0) {
+                        return serverKeepAliveTime;
+                    }
+                    return serverKeepAliveTime > 0 ? Math.min(serverKeepAliveTime, keepAliveTime) : keepAliveTime;
+                })
+                .evictExpiredConnections();
+        if (properties.getIdleConnectionTimeout() > 0) {
+            builder.evictIdleConnections(properties.getIdleConnectionTimeout(), TimeUnit.MILLISECONDS);
+        }
+        if (properties.getAuthScheme() == AuthScheme.IAMSigV4) {
+            builder.addInterceptorLast(createV4SigningInterceptor(properties));
+        }
+        return builder.build();
+    }
+
     // https://github.com/aws/amazon-neptune-sparql-java-sigv4/blob/master/src/main/java/com/amazonaws/neptune/client/jena/NeptuneJenaSigV4Example.java
-    private static HttpClient createV4SigningClient(final SparqlConnectionProperties properties) throws SQLException {
+    private static HttpRequestInterceptor createV4SigningInterceptor(final SparqlConnectionProperties properties)
+            throws SQLException {
         final AWSCredentialsProvider awsCredentialsProvider = new DefaultAWSCredentialsProviderChain();
         final NeptuneApacheHttpSigV4Signer v4Signer;
-        final HttpClient v4SigningClient;
 
         try {
             v4Signer = new NeptuneApacheHttpSigV4Signer(properties.getServiceRegion(), awsCredentialsProvider);
-            v4SigningClient =
-                    HttpClientBuilder.create().addInterceptorLast(new HttpRequestInterceptor() {
-
-                        @SneakyThrows
-                        @Override
-                        public void process(final HttpRequest req, final HttpContext ctx) {
-                            if (req instanceof HttpUriRequest) {
-                                final HttpUriRequest httpUriReq = (HttpUriRequest) req;
-                                try {
-                                    v4Signer.signRequest(httpUriReq);
-                                } catch (final NeptuneSigV4SignerException e) {
-                                    throw SqlError.createSQLException(LOGGER,
-                                            SqlState.INVALID_AUTHORIZATION_SPECIFICATION,
-                                            SqlError.CONN_FAILED, e);
-                                }
-                            } else {
-                                throw SqlError.createSQLException(LOGGER,
-                                        SqlState.INVALID_AUTHORIZATION_SPECIFICATION,
-                                        SqlError.UNSUPPORTED_REQUEST, "Not an HttpUriRequest");
-                            }
-                        }
-
-                    }).build();
-
         } catch (final NeptuneSigV4SignerException e) {
             throw SqlError.createSQLException(
                     LOGGER,
                     SqlState.INVALID_AUTHORIZATION_SPECIFICATION,
                     SqlError.CONN_FAILED, e);
         }
-        return v4SigningClient;
+        return new HttpRequestInterceptor() {
+
+            @SneakyThrows
+            @Override
+            public void process(final HttpRequest req, final HttpContext ctx) {
+                if (req instanceof HttpUriRequest) {
+                    final HttpUriRequest httpUriReq = (HttpUriRequest) req;
+                    try {
+                        v4Signer.signRequest(httpUriReq);
+                    } catch (final NeptuneSigV4SignerException e) {
+                        throw SqlError.createSQLException(LOGGER,
+                                SqlState.INVALID_AUTHORIZATION_SPECIFICATION,
+                                SqlError.CONN_FAILED, e);
+                    }
+                } else {
+                    throw SqlError.createSQLException(LOGGER,
+                            SqlState.INVALID_AUTHORIZATION_SPECIFICATION,
+                            SqlError.UNSUPPORTED_REQUEST, "Not an HttpUriRequest");
+                }
+            }
+
+        };
+    }
+
+    private RDFConnection getRdfConnection() throws SQLException {
+        synchronized (queryExecutionLock) {
+            if (rdfConnection == null) {
+                rdfConnection = createRDFBuilder(sparqlConnectionProperties).build();
+            }
+            return rdfConnection;
+        }
     }
 
     /**
-     * Function to close down the RDF connection.
+     * Function to parse a query, or get it from the cache of parsed queries if the same query text was parsed before.
+     *
+     * @param sparql Query text.
+     * @return Parsed query.
      */
-    public static void close() {
-        synchronized (RDF_CONNECTION_LOCK) {
-            if (rdfConnection != null) {
-                rdfConnection.close();
-                rdfConnection = null;
+    static Query parseQuery(final String sparql) {
+        synchronized (PARSED_QUERIES) {
+            final Query query = PARSED_QUERIES.get(sparql);
+            if (query != null) {
+                return query;
             }
         }
+        // Parsed outside the lock, queries which fail to parse are not cached.
+        final Query query = QueryFactory.create(sparql);
+        synchronized (PARSED_QUERIES) {
+            PARSED_QUERIES.put(sparql, query);
+        }
+        return query;
     }
 
-    private RDFConnection getRdfConnection(final SparqlConnectionProperties sparqlConnectionProperties)
-            throws SQLException {
-        if (rdfConnection == null || !propertiesEqual(previousSparqlConnectionProperties, sparqlConnectionProperties)) {
-            previousSparqlConnectionProperties = sparqlConnectionProperties;
-            return createRDFBuilder(sparqlConnectionProperties).build();
-        }
-        return rdfConnection;
+    @Override
+    protected QueryExecutor createQueryExecutor() throws SQLException {
+        // Shares the properties instance, and so the pooled HTTP client, of the connection.
+        return new SparqlQueryExecutor(sparqlConnectionProperties);
     }
 
     /**
@@ -214,12 +399,14 @@ public class SparqlQueryExecutor extends QueryExecutor {
     @Override
     public boolean isValid(final int timeout) {
         try {
-            final RDFConnection tempConn =
-                    SparqlQueryExecutor.createRDFBuilder(sparqlConnectionProperties).build();
-            final QueryExecution executeQuery = tempConn.query("SELECT * { ?s ?p ?o } LIMIT 0");
-            // The 2nd parameter controls the timeout for the whole query execution.
-            executeQuery.setTimeout(timeout, TimeUnit.SECONDS, timeout, TimeUnit.SECONDS);
-            executeQuery.execSelect();
+            // Validated over the pooled HTTP client of the connection, reusing its open HTTP connections.
+            try (QueryExecution executeQuery = getRdfConnection().query(parseQuery(VALIDATION_QUERY))) {
+                if (timeout > 0) {
+                    // The 2nd parameter controls the timeout for the whole query execution.
+                    executeQuery.setTimeout(timeout, TimeUnit.SECONDS, timeout, TimeUnit.SECONDS);
+                }
+                executeQuery.execSelect();
+            }
             return true;
         } catch (final Exception e) {
             LOGGER.error("Connection to database returned an error:", e);
@@ -247,12 +434,16 @@ public class SparqlQueryExecutor extends QueryExecutor {
     private Constructor<?> createConstructorBasedOnQueryType(final String sparql) throws SQLException {
         final Constructor<?> constructor;
         try {
-            final Query query = QueryFactory.create(sparql);
+            final Query query = parseQuery(sparql);
             switch (query.queryType()) {
                 case SELECT:
-                    constructor = SparqlSelectResultSet.class
-                            .getConstructor(java.sql.Statement.class,
-                                    SparqlSelectResultSet.ResultSetInfoWithRows.class);
+                    constructor = sparqlConnectionProperties.getStreamResults() ?
+                            SparqlStreamingSelectResultSet.class
+                                    .getConstructor(java.sql.Statement.class,
+                                            SparqlStreamingSelectResultSet.ResultSetInfoWithStream.class) :
+                            SparqlSelectResultSet.class
+                                    .getConstructor(java.sql.Statement.class,
+                                            SparqlSelectResultSet.ResultSetInfoWithRows.class);
                     break;
                 case ASK:
                     constructor = SparqlAskResultSet.class
@@ -354,32 +545,54 @@ public class SparqlQueryExecutor extends QueryExecutor {
     @SuppressWarnings("unchecked")
     protected <T> T runQuery(final String query) throws SQLException {
         synchronized (queryExecutionLock) {
-            synchronized (RDF_CONNECTION_LOCK) {
-                rdfConnection = getRdfConnection(sparqlConnectionProperties);
-            }
-            queryExecution = rdfConnection.query(query);
+            queryFinished = false;
         }
+        try {
+            final Query parsedQuery = parseQuery(query);
+            // The query was parsed when its ResultSet constructor was chosen, the parsed query is sent as is.
+            final QueryExecution execution = getRdfConnection().query(parsedQuery);
+            final long timeoutMillis = getQueryTimeoutMillis();
+            if (timeoutMillis > 0) {
+                execution.setTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            synchronized (queryExecutionLock) {
+                if (cancelled) {
+                    execution.close();
+                    throw new QueryCancelledException();
+                }
+                queryExecution = execution;
+            }
 
-        final QueryType queryType = queryExecution.getQuery().queryType();
-        final Object sparqlResultSet = getResultSetBasedOnQueryType(queryType);
-
-        synchronized (queryExecutionLock) {
-            queryExecution.close();
-            queryExecution = null;
+            Object sparqlResultSet = null;
+            try {
+                sparqlResultSet = getResultSetBasedOnQueryType(parsedQuery.queryType(), execution);
+            } finally {
+                // A streamed query execution is closed by its ResultSet.
+                if (!(sparqlResultSet instanceof SparqlStreamingSelectResultSet.ResultSetInfoWithStream)) {
+                    execution.close();
+                }
+            }
+            return (T) sparqlResultSet;
+        } finally {
+            synchronized (queryExecutionLock) {
+                queryExecution = null;
+                cancelled = false;
+                queryFinished = true;
+            }
         }
-
-        return (T) sparqlResultSet;
     }
 
     /**
      * Private function to get result set based on the given query type
      */
-    private Object getResultSetBasedOnQueryType(final QueryType queryType) throws SQLException {
+    private Object getResultSetBasedOnQueryType(final QueryType queryType, final QueryExecution queryExecution)
+            throws SQLException {
         final Object sparqlResultSet;
         switch (queryType) {
             case SELECT:
                 final org.apache.jena.query.ResultSet selectResult = queryExecution.execSelect();
-                sparqlResultSet = getSelectResultSet(selectResult);
+                sparqlResultSet = sparqlConnectionProperties.getStreamResults() ?
+                        getStreamingSelectResultSet(selectResult, queryExecution) : getSelectResultSet(selectResult);
                 break;
             case ASK:
                 sparqlResultSet = new SparqlAskResultSet.ResultSetInfoWithRows(queryExecution.execAsk());
@@ -405,14 +618,44 @@ public class SparqlQueryExecutor extends QueryExecutor {
     private Object getSelectResultSet(final org.apache.jena.query.ResultSet selectResult) {
         final List<QuerySolution> selectRows = new ArrayList<>();
         final List<String> columns = selectResult.getResultVars();
+        final Map<String, Object> tempColumnType =
+                inferSelectColumnTypes(selectResult, columns, selectRows, Long.MAX_VALUE);
+
+        // Create new map to return column type.
+        final Map<String, Object> selectColumnType = new LinkedHashMap<>();
+        columns.forEach(c -> selectColumnType.put(c, tempColumnType.getOrDefault(c, String.class)));
+
+        return new SparqlSelectResultSet.ResultSetInfoWithRows(selectRows, columns,
+                new ArrayList<>(selectColumnType.values()));
+    }
+
+    /**
+     * Private function to get streamed select result set, inferring the column types from the type inference window.
+     */
+    private Object getStreamingSelectResultSet(final org.apache.jena.query.ResultSet selectResult,
+                                               final QueryExecution queryExecution) {
+        final List<QuerySolution> windowRows = new ArrayList<>();
+        final List<String> columns = selectResult.getResultVars();
+        final Map<String, Object> tempColumnType = inferSelectColumnTypes(selectResult, columns, windowRows,
+                sparqlConnectionProperties.getTypeInferenceWindow());
 
+        final List<Object> selectColumnTypes = new ArrayList<>();
+        columns.forEach(c -> selectColumnTypes.add(tempColumnType.getOrDefault(c, String.class)));
+        return new SparqlStreamingSelectResultSet.ResultSetInfoWithStream(queryExecution, windowRows, selectResult,
+                columns, selectColumnTypes);
+    }
+
+    /**
+     * Private function to read solutions of a select result and infer the types of their columns
+     */
+    private Map<String, Object> inferSelectColumnTypes(final org.apache.jena.query.ResultSet selectResult,
+                                                       final List<String> columns, final List<QuerySolution> rows,
+                                                       final long maxRows) {
         final List<String> tempColumns = new ArrayList<>(columns);
         final Map<String, Object> tempColumnType = new LinkedHashMap<>();
-
-        // TODO: Revisit type promotion in performance testing ticket
-        while (selectResult.hasNext()) {
+        while (rows.size() < maxRows && selectResult.hasNext()) {
             final QuerySolution row = selectResult.next();
-            selectRows.add(row);
+            rows.add(row);
             final Iterator<String> tempColumnIterator = tempColumns.iterator();
             while (tempColumnIterator.hasNext()) {
                 final String column = tempColumnIterator.next();
@@ -424,13 +667,7 @@ public class SparqlQueryExecutor extends QueryExecutor {
                 getColumnType(tempColumnType, tempColumnIterator, node, column);
             }
         }
-
-        // Create new map to return column type.
-        final Map<String, Object> selectColumnType = new LinkedHashMap<>();
-        columns.forEach(c -> selectColumnType.put(c, tempColumnType.getOrDefault(c, String.class)));
-
-        return new SparqlSelectResultSet.ResultSetInfoWithRows(selectRows, columns,
-                new ArrayList<>(selectColumnType.values()));
+        return tempColumnType;
     }
 
     /**
@@ -509,11 +746,31 @@ public class SparqlQueryExecutor extends QueryExecutor {
     protected void performCancel() throws SQLException {
         synchronized (queryExecutionLock) {
             if (queryExecution != null) {
+                // Aborting closes the response of the running query, which then fails.
                 queryExecution.abort();
-                // TODO: Check in later tickets if adding close() affects anything or if we need any additional guards,
-                //  as its implementation does have null checks
-                queryExecution.close();
-                queryExecution = null;
+            } else if (!queryFinished) {
+                cancelled = true;
+            }
+        }
+    }
+
+    /**
+     * HTTP client shared by the connections with the same HTTP client identity, with the number of connections using
+     * it.
+     */
+    private static class HttpClientEntry {
+        private final CloseableHttpClient httpClient;
+        private int referenceCount = 0;
+
+        HttpClientEntry(final CloseableHttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        void close() {
+            try {
+                httpClient.close();
+            } catch (final IOException e) {
+                LOGGER.warn("Failed to close HTTP client.", e);
             }
         }
     }
@@ -68,7 +68,17 @@ public class SparqlSelectResultSet extends SparqlResultSet {
 
     @Override
     protected Object getConvertedValue(final int columnIndex) throws SQLException {
-        final RDFNode node = getValue(columnIndex);
+        return convertNode(getValue(columnIndex));
+    }
+
+    /**
+     * Function to convert the value of a solution to its Java value.
+     *
+     * @param node Value to convert, null if the variable is not bound.
+     * @return Converted value.
+     * @throws SQLException if the value cannot be converted.
+     */
+    static Object convertNode(final RDFNode node) throws SQLException {
         if (node == null) {
             return null;
         }
@@ -108,7 +118,7 @@ public class SparqlSelectResultSet extends SparqlResultSet {
         return value;
     }
 
-    private SparqlTypeMapping.Converter<?> getConverter(final XSDDatatype datatype) {
+    private static SparqlTypeMapping.Converter<?> getConverter(final XSDDatatype datatype) {
         return SparqlTypeMapping.SPARQL_LITERAL_TO_JAVA_TRANSFORM_MAP.get(datatype);
     }
 
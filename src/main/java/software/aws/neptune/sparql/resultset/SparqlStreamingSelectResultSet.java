@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.sparql.resultset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QuerySolution;
+import org.apache.jena.rdf.model.RDFNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.jdbc.utilities.SqlState;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * SPARQL SELECT ResultSet which reads the solutions from the query response while it is iterated.
+ * <p>
+ * The column types are inferred from the solutions read ahead when the query is executed, the type inference window,
+ * and the remaining solutions are read one at a time, so memory use does not grow with the size of the result. The
+ * query execution is closed once all solutions are read or the ResultSet is closed.
+ */
+public class SparqlStreamingSelectResultSet extends SparqlResultSet {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SparqlStreamingSelectResultSet.class);
+    private final List<String> columns;
+    private final SparqlResultSetMetadata sparqlResultSetMetadata;
+    private final org.apache.jena.query.ResultSet remainingRows;
+    private QueryExecution queryExecution;
+    // Solutions read ahead for type inference, returned before the remaining solutions of the response.
+    private Iterator<QuerySolution> windowRows;
+    // Current solution, null before the first and after the last solution.
+    private QuerySolution row = null;
+    private int rowNumber = 0;
+    private boolean afterLast = false;
+
+    /**
+     * SparqlStreamingSelectResultSet constructor, initializes super class.
+     *
+     * @param statement     Statement Object.
+     * @param resultSetInfo ResultSetInfoWithStream Object.
+     */
+    public SparqlStreamingSelectResultSet(final Statement statement, final ResultSetInfoWithStream resultSetInfo) {
+        // 1 for row count as placeholder, rows are counted as they are read.
+        super(statement, resultSetInfo.getColumns(), 1);
+        this.queryExecution = resultSetInfo.getQueryExecution();
+        this.windowRows = resultSetInfo.getWindowRows().iterator();
+        this.remainingRows = resultSetInfo.getRemainingRows();
+        this.columns = resultSetInfo.getColumns();
+        this.sparqlResultSetMetadata = new SparqlResultSetMetadata(columns, resultSetInfo.getColumnTypes());
+    }
+
+    @Override
+    protected void doClose() throws SQLException {
+        row = null;
+        windowRows = null;
+        releaseQueryExecution();
+    }
+
+    private void releaseQueryExecution() {
+        if (queryExecution != null) {
+            // Closes the response, discarding the solutions which have not been read.
+            queryExecution.close();
+            queryExecution = null;
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        verifyOpen();
+        if (afterLast) {
+            return false;
+        }
+        if (windowRows.hasNext()) {
+            row = windowRows.next();
+            rowNumber++;
+            return true;
+        }
+        try {
+            if (remainingRows.hasNext()) {
+                row = remainingRows.next();
+                rowNumber++;
+                return true;
+            }
+        } catch (final RuntimeException e) {
+            row = null;
+            afterLast = true;
+            releaseQueryExecution();
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.QUERY_FAILED, e);
+        }
+        row = null;
+        afterLast = true;
+        releaseQueryExecution();
+        return false;
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        verifyOpen();
+        return rowNumber == 0 && !afterLast;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        verifyOpen();
+        return afterLast;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        verifyOpen();
+        return rowNumber == 1 && !afterLast;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        verifyOpen();
+        return afterLast ? 0 : rowNumber;
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        throw SqlError.createSQLFeatureNotSupportedException(LOGGER);
+    }
+
+    @Override
+    protected Object getConvertedValue(final int columnIndex) throws SQLException {
+        return SparqlSelectResultSet.convertNode(getValue(columnIndex));
+    }
+
+    private RDFNode getValue(final int columnIndex) throws SQLException {
+        verifyOpen();
+        if (row == null) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_INDEX,
+                    getRow(), rowNumber);
+        }
+        if ((columnIndex <= 0) || (columnIndex > columns.size())) {
+            throw SqlError.createSQLException(LOGGER, SqlState.DATA_EXCEPTION, SqlError.INVALID_COLUMN_INDEX,
+                    columnIndex, columns.size());
+        }
+        final RDFNode value = row.get(columns.get(columnIndex - 1));
+        setWasNull(value == null);
+        return value;
+    }
+
+    @Override
+    protected ResultSetMetaData getResultMetadata() throws SQLException {
+        return sparqlResultSetMetadata;
+    }
+
+    /**
+     * Running SPARQL SELECT query whose solutions are read from its response as the ResultSet is iterated.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class ResultSetInfoWithStream {
+        private final QueryExecution queryExecution;
+        private final List<QuerySolution> windowRows;
+        private final org.apache.jena.query.ResultSet remainingRows;
+        private final List<String> columns;
+        private final List<Object> columnTypes;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+import software.aws.neptune.jdbc.AsyncStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+class GremlinAsyncStatementTest {
+    private static final String HOSTNAME = "localhost";
+    private static final int PORT = 8181; // Mock server uses 8181.
+    private static java.sql.Connection connection;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        MockGremlinDatabase.startServer();
+        connection = new GremlinConnection(new GremlinConnectionProperties(getProperties(HOSTNAME, PORT)));
+    }
+
+    @AfterAll
+    static void shutdown() throws SQLException {
+        connection.close();
+        MockGremlinDatabase.stopServer();
+    }
+
+    @Test
+    void testExecuteQueryAsync() throws Exception {
+        final java.sql.Statement statement = connection.createStatement();
+        Assertions.assertTrue(statement.isWrapperFor(AsyncStatement.class));
+        final AsyncStatement asyncStatement = statement.unwrap(AsyncStatement.class);
+
+        // Queries are all in flight before any of their results are read.
+        final List<CompletableFuture<java.sql.ResultSet>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(asyncStatement.executeQueryAsync(String.format("g.inject([id: %d])", i)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            final java.sql.ResultSet resultSet = futures.get(i).get();
+            Assertions.assertTrue(resultSet.next());
+            Assertions.assertEquals(i, resultSet.getInt("id"));
+            Assertions.assertFalse(resultSet.next());
+            resultSet.close();
+        }
+        statement.close();
+        Assertions.assertThrows(SQLException.class, () -> asyncStatement.executeQueryAsync("g.inject(1)"));
+    }
+
+    @Test
+    void testExecuteQueryAsyncFailure() throws SQLException {
+        final AsyncStatement asyncStatement = connection.createStatement().unwrap(AsyncStatement.class);
+        final CompletableFuture<java.sql.ResultSet> future = asyncStatement.executeQueryAsync("g.V().invalid()");
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertTrue(exception.getCause() instanceof SQLException);
+    }
+
+    @Test
+    void testPreparedStatementAsync() throws SQLException {
+        final AsyncStatement asyncStatement = connection.prepareStatement("g.inject(1)").unwrap(AsyncStatement.class);
+        Assertions.assertThrows(SQLException.class, () -> asyncStatement.executeQueryAsync("g.inject(1)"));
+    }
+}
@@ -113,6 +113,19 @@ class GremlinConnectionPropertiesTest extends ConnectionPropertiesTestBase {
         Assertions.assertEquals(randomIntValue, connectionProperties.getConnectionRetryCount());
     }
 
+    @Test
+    void testValidationWindow() throws SQLException {
+        testIntegerPropertyViaConstructor(
+                GremlinConnectionProperties.VALIDATION_WINDOW_MILLIS_KEY,
+                GremlinConnectionProperties.DEFAULT_VALIDATION_WINDOW_MILLIS);
+
+        connectionProperties = new GremlinConnectionProperties();
+        connectionProperties.setValidationWindowMillis(randomIntValue);
+        Assertions.assertEquals(randomIntValue, connectionProperties.getValidationWindowMillis());
+        Assertions.assertThrows(SQLException.class,
+                () -> connectionProperties.setValidationWindowMillis(-1));
+    }
+
     @Test
     void testAuthScheme() throws SQLException {
         testAuthSchemeViaConstructor();
@@ -499,6 +512,118 @@ class GremlinConnectionPropertiesTest extends ConnectionPropertiesTestBase {
         Assertions.assertEquals(strategy, connectionProperties.getLoadBalancingStrategy());
     }
 
+    @Test
+    void testAdaptiveFetchSize() throws SQLException {
+        testBooleanPropertyViaConstructor(
+                GremlinConnectionProperties.ADAPTIVE_FETCH_SIZE_KEY,
+                GremlinConnectionProperties.DEFAULT_ADAPTIVE_FETCH_SIZE);
+
+        connectionProperties = new GremlinConnectionProperties();
+        Assertions.assertEquals(DEFAULT_FALSE, connectionProperties.getAdaptiveFetchSize());
+        final ImmutableList<Boolean> boolValues = ImmutableList.of(true, false);
+        for (final Boolean boolValue : boolValues) {
+            connectionProperties.setAdaptiveFetchSize(boolValue);
+            Assertions.assertEquals(boolValue, connectionProperties.getAdaptiveFetchSize());
+        }
+    }
+
+    @Test
+    void testPaginationMaxThreads() throws SQLException {
+        connectionProperties = new GremlinConnectionProperties();
+        Assertions.assertEquals(GremlinConnectionProperties.DEFAULT_PAGINATION_MAX_THREADS,
+                connectionProperties.getPaginationMaxThreads());
+        final Properties properties = new Properties();
+        properties.put(GremlinConnectionProperties.PAGINATION_MAX_THREADS_KEY, "5");
+        connectionProperties = new GremlinConnectionProperties(properties);
+        Assertions.assertEquals(5, connectionProperties.getPaginationMaxThreads());
+        properties.put(GremlinConnectionProperties.PAGINATION_MAX_THREADS_KEY, "0");
+        Assertions.assertThrows(SQLException.class, () -> new GremlinConnectionProperties(properties));
+
+        connectionProperties.setPaginationMaxThreads(randomIntValue + 1);
+        Assertions.assertEquals(randomIntValue + 1, connectionProperties.getPaginationMaxThreads());
+        Assertions.assertThrows(SQLException.class,
+                () -> connectionProperties.setPaginationMaxThreads(0));
+    }
+
+    @Test
+    void testPaginationQueueSize() throws SQLException {
+        testIntegerPropertyViaConstructor(
+                GremlinConnectionProperties.PAGINATION_QUEUE_SIZE_KEY,
+                GremlinConnectionProperties.DEFAULT_PAGINATION_QUEUE_SIZE);
+
+        connectionProperties = new GremlinConnectionProperties();
+        connectionProperties.setPaginationQueueSize(randomIntValue);
+        Assertions.assertEquals(randomIntValue, connectionProperties.getPaginationQueueSize());
+        Assertions.assertThrows(SQLException.class,
+                () -> connectionProperties.setPaginationQueueSize(-1));
+    }
+
+    @Test
+    void testStreamResults() throws SQLException {
+        testBooleanPropertyViaConstructor(
+                GremlinConnectionProperties.STREAM_RESULTS_KEY,
+                GremlinConnectionProperties.DEFAULT_STREAM_RESULTS);
+
+        connectionProperties = new GremlinConnectionProperties();
+        Assertions.assertEquals(DEFAULT_FALSE, connectionProperties.getStreamResults());
+        final ImmutableList<Boolean> boolValues = ImmutableList.of(true, false);
+        for (final Boolean boolValue : boolValues) {
+            connectionProperties.setStreamResults(boolValue);
+            Assertions.assertEquals(boolValue, connectionProperties.getStreamResults());
+        }
+    }
+
+    @Test
+    void testColumnDiscoveryRows() throws SQLException {
+        connectionProperties = new GremlinConnectionProperties();
+        Assertions.assertEquals(GremlinConnectionProperties.DEFAULT_COLUMN_DISCOVERY_ROWS,
+                connectionProperties.getColumnDiscoveryRows());
+        final Properties properties = new Properties();
+        properties.put(GremlinConnectionProperties.COLUMN_DISCOVERY_ROWS_KEY, "5");
+        connectionProperties = new GremlinConnectionProperties(properties);
+        Assertions.assertEquals(5, connectionProperties.getColumnDiscoveryRows());
+        properties.put(GremlinConnectionProperties.COLUMN_DISCOVERY_ROWS_KEY, "0");
+        Assertions.assertThrows(SQLException.class, () -> new GremlinConnectionProperties(properties));
+
+        connectionProperties.setColumnDiscoveryRows(randomIntValue + 1);
+        Assertions.assertEquals(randomIntValue + 1, connectionProperties.getColumnDiscoveryRows());
+        Assertions.assertThrows(SQLException.class,
+                () -> connectionProperties.setColumnDiscoveryRows(0));
+    }
+
+    @Test
+    void testReaderEndpoints() throws SQLException {
+        connectionProperties = new GremlinConnectionProperties();
+        Assertions.assertTrue(connectionProperties.getReaderEndpoints().isEmpty());
+        final Properties properties = new Properties();
+        properties.put("serviceRegion", "mock-region");
+        properties.put(GremlinConnectionProperties.READER_ENDPOINTS_KEY, " reader-1 ,reader-2,, ");
+        connectionProperties = new GremlinConnectionProperties(properties);
+        Assertions.assertEquals(ImmutableList.of("reader-1", "reader-2"), connectionProperties.getReaderEndpoints());
+
+        connectionProperties.setReaderEndpoints("reader-3");
+        Assertions.assertEquals(ImmutableList.of("reader-3"), connectionProperties.getReaderEndpoints());
+    }
+
+    @Test
+    void testRoutingStrategy() throws SQLException {
+        connectionProperties = new GremlinConnectionProperties();
+        Assertions.assertEquals(GremlinConnectionProperties.DEFAULT_ROUTING_STRATEGY,
+                connectionProperties.getRoutingStrategy());
+        final Properties properties = new Properties();
+        properties.put("serviceRegion", "mock-region");
+        properties.put(GremlinConnectionProperties.ROUTING_STRATEGY_KEY, "leastinflight");
+        connectionProperties = new GremlinConnectionProperties(properties);
+        Assertions.assertEquals(GremlinRoutingStrategy.LeastInFlight, connectionProperties.getRoutingStrategy());
+        properties.put(GremlinConnectionProperties.ROUTING_STRATEGY_KEY, "fastest");
+        Assertions.assertThrows(SQLException.class, () -> new GremlinConnectionProperties(properties));
+
+        for (final GremlinRoutingStrategy strategy : GremlinRoutingStrategy.values()) {
+            connectionProperties.setRoutingStrategy(strategy);
+            Assertions.assertEquals(strategy, connectionProperties.getRoutingStrategy());
+        }
+    }
+
     @Test
     void testDisableEncryptionWithIAMSigV4() throws SQLException {
         final Properties properties = new Properties();
@@ -16,6 +16,7 @@
 
 package software.aws.neptune.gremlin;
 
+import org.apache.tinkerpop.gremlin.driver.Client;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -66,6 +67,56 @@ public class GremlinConnectionTest {
         connection.createStatement().executeQuery(QUERY);
     }
 
+    @Test
+    void testClientIsShared() throws SQLException {
+        // Cluster settings not used by other tests, so that no other connection holds on to the cluster.
+        final Properties properties = getProperties(HOSTNAME, PORT, 1024 * 1024 + 1);
+        GremlinConnection sharedConnection = new GremlinConnection(new GremlinConnectionProperties(properties));
+        sharedConnection.createStatement().executeQuery(QUERY);
+        final Client client = GremlinQueryExecutor.getClient(sharedConnection.getGremlinConnectionProperties());
+        sharedConnection.createStatement().executeQuery(QUERY);
+        Assertions.assertSame(client,
+                GremlinQueryExecutor.getClient(sharedConnection.getGremlinConnectionProperties()));
+
+        // Closing the connection releases the client.
+        sharedConnection.close();
+        Assertions.assertTrue(client.isClosing());
+        sharedConnection = new GremlinConnection(new GremlinConnectionProperties(properties));
+        sharedConnection.createStatement().executeQuery(QUERY);
+        Assertions.assertNotSame(client,
+                GremlinQueryExecutor.getClient(sharedConnection.getGremlinConnectionProperties()));
+        sharedConnection.close();
+    }
+
+    @Test
+    void testClustersAreSharedByIdentity() throws SQLException {
+        // Cluster settings not used by other tests, so that no other connection holds on to the clusters.
+        final Properties sameClusterProperties = getProperties(HOSTNAME.toUpperCase(), PORT, 1024 * 1024 + 2);
+        sameClusterProperties.put(GremlinConnectionProperties.APPLICATION_NAME_KEY, "other application");
+        final GremlinConnection firstConnection =
+                new GremlinConnection(new GremlinConnectionProperties(getProperties(HOSTNAME, PORT, 1024 * 1024 + 2)));
+        final GremlinConnection sameClusterConnection =
+                new GremlinConnection(new GremlinConnectionProperties(sameClusterProperties));
+        final GremlinConnection otherClusterConnection =
+                new GremlinConnection(new GremlinConnectionProperties(getProperties(HOSTNAME, PORT, 1024 * 1024 + 3)));
+        final Client client = GremlinQueryExecutor.getClient(firstConnection.getGremlinConnectionProperties());
+        final Client sameClusterClient =
+                GremlinQueryExecutor.getClient(sameClusterConnection.getGremlinConnectionProperties());
+        final Client otherClusterClient =
+                GremlinQueryExecutor.getClient(otherClusterConnection.getGremlinConnectionProperties());
+        Assertions.assertSame(client, sameClusterClient);
+        Assertions.assertNotSame(client, otherClusterClient);
+
+        // Clusters are closed once the last connection using them is closed.
+        otherClusterConnection.close();
+        Assertions.assertTrue(otherClusterClient.isClosing());
+        sameClusterConnection.close();
+        Assertions.assertFalse(client.isClosing());
+        firstConnection.createStatement().executeQuery(QUERY);
+        firstConnection.close();
+        Assertions.assertTrue(client.isClosing());
+    }
+
     @Test
     void testIsValid() throws SQLException {
         Assertions.assertTrue(connection.isValid(1));
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+class GremlinPreparedStatementParametersTest {
+    private static final String HOSTNAME = "localhost";
+    private static final int PORT = 8181; // Mock server uses 8181.
+    private static java.sql.Connection connection;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        MockGremlinDatabase.startServer();
+        connection = new GremlinConnection(new GremlinConnectionProperties(getProperties(HOSTNAME, PORT)));
+    }
+
+    @AfterAll
+    static void shutdown() throws SQLException {
+        connection.close();
+        MockGremlinDatabase.stopServer();
+    }
+
+    @Test
+    void testBindings() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement =
+                connection.prepareStatement("g.inject([name: p1, age: p2])");
+        preparedStatement.setString(1, "marko");
+        preparedStatement.setInt(2, 29);
+        java.sql.ResultSet resultSet = preparedStatement.executeQuery();
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("marko", resultSet.getString("name"));
+        Assertions.assertEquals(29, resultSet.getInt("age"));
+        Assertions.assertEquals(Types.INTEGER, resultSet.getMetaData().getColumnType(resultSet.findColumn("age")));
+        Assertions.assertFalse(resultSet.next());
+
+        // The same script is executed again with other values.
+        preparedStatement.setString(1, "vadas");
+        preparedStatement.setNull(2, Types.INTEGER);
+        resultSet = preparedStatement.executeQuery();
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("vadas", resultSet.getString("name"));
+        Assertions.assertNull(resultSet.getObject("age"));
+        Assertions.assertFalse(resultSet.next());
+        preparedStatement.close();
+    }
+
+    @Test
+    void testClearParameters() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement = connection.prepareStatement("g.inject(p1)");
+        preparedStatement.setLong(1, 1L);
+        final java.sql.ResultSet resultSet = preparedStatement.executeQuery();
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1L, resultSet.getLong(1));
+
+        // Without bindings, the script variable is undefined.
+        preparedStatement.clearParameters();
+        Assertions.assertThrows(SQLException.class, preparedStatement::executeQuery);
+        preparedStatement.close();
+    }
+
+    @Test
+    void testInvalidParameterIndex() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement = connection.prepareStatement("g.inject(p1)");
+        Assertions.assertThrows(SQLException.class, () -> preparedStatement.setInt(0, 1));
+        preparedStatement.close();
+        Assertions.assertThrows(SQLException.class, () -> preparedStatement.setInt(1, 1));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Base64;
+
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+/**
+ * Runs queries against a server which accepts the WebSocket connections of the driver but never answers a request,
+ * so only the client side timeout and cancellation can end a query.
+ */
+class GremlinQueryTimeoutTest {
+    private static final String HOSTNAME = "localhost";
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static ServerSocket serverSocket;
+    private static java.sql.Connection connection;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        serverSocket = new ServerSocket(0);
+        final Thread acceptor = new Thread(GremlinQueryTimeoutTest::acceptConnections, "silent-gremlin-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        connection = new GremlinConnection(
+                new GremlinConnectionProperties(getProperties(HOSTNAME, serverSocket.getLocalPort())));
+    }
+
+    @AfterAll
+    static void shutdown() throws Exception {
+        connection.close();
+        serverSocket.close();
+    }
+
+    @Test
+    void testQueryTimeoutWithoutServerAnswer() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setQueryTimeout(1);
+        // The first query also times out while the client connects, the second once its request is sent.
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> Assertions.assertThrows(SQLTimeoutException.class, () -> statement.executeQuery("g.V()")));
+        }
+        statement.close();
+    }
+
+    private static void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                final Thread reader = new Thread(() -> upgradeAndIgnore(socket), "silent-gremlin-connection");
+                reader.setDaemon(true);
+                reader.start();
+            } catch (final IOException e) {
+                return;
+            }
+        }
+    }
+
+    private static void upgradeAndIgnore(final Socket socket) {
+        try (Socket ignored = socket) {
+            final InputStream input = socket.getInputStream();
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String key = null;
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                if (line.toLowerCase().startsWith("sec-websocket-key:")) {
+                    key = line.substring(line.indexOf(':') + 1).trim();
+                }
+            }
+            final OutputStream output = socket.getOutputStream();
+            output.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            // Requests are read and never answered.
+            while (reader.read() >= 0) {
+                continue;
+            }
+        } catch (final IOException | NoSuchAlgorithmException e) {
+            // The connection was closed by the driver.
+        }
+    }
+
+    private static String accept(final String key) throws NoSuchAlgorithmException {
+        final MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        return Base64.getEncoder()
+                .encodeToString(sha1.digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
+class GremlinRouterTest {
+    private static final List<String> HOSTS = ImmutableList.of("reader-1", "reader-2", "reader-3");
+
+    private static GremlinRouter.HostStats createStats(final int inFlight, final long... latenciesNanos) {
+        final GremlinRouter.HostStats stats = new GremlinRouter.HostStats();
+        for (final long latency : latenciesNanos) {
+            stats.requestStarted();
+            stats.requestCompleted(latency);
+        }
+        for (int i = 0; i < inFlight; i++) {
+            stats.requestStarted();
+        }
+        return stats;
+    }
+
+    @Test
+    void testRoundRobin() {
+        final GremlinRouter router = new GremlinRouter(GremlinRoutingStrategy.RoundRobin);
+        final Map<String, GremlinRouter.HostStats> stats = ImmutableMap.of(
+                "reader-1", createStats(5), "reader-2", createStats(0), "reader-3", createStats(0));
+        Assertions.assertEquals(HOSTS, router.order(HOSTS, 0, stats::get));
+        Assertions.assertEquals(ImmutableList.of("reader-2", "reader-3", "reader-1"),
+                router.order(HOSTS, 1, stats::get));
+        Assertions.assertEquals(ImmutableList.of("reader-3", "reader-1", "reader-2"),
+                router.order(HOSTS, 5, stats::get));
+    }
+
+    @Test
+    void testLeastInFlight() {
+        final GremlinRouter router = new GremlinRouter(GremlinRoutingStrategy.LeastInFlight);
+        final Map<String, GremlinRouter.HostStats> stats = ImmutableMap.of(
+                "reader-1", createStats(3), "reader-2", createStats(1), "reader-3", createStats(2));
+        Assertions.assertEquals(ImmutableList.of("reader-2", "reader-3", "reader-1"),
+                router.order(HOSTS, 0, stats::get));
+
+        // Hosts with as many requests in flight take turns.
+        final Map<String, GremlinRouter.HostStats> idle = ImmutableMap.of(
+                "reader-1", createStats(0), "reader-2", createStats(0), "reader-3", createStats(1));
+        Assertions.assertEquals("reader-1", router.order(HOSTS, 0, idle::get).get(0));
+        Assertions.assertEquals("reader-2", router.order(HOSTS, 1, idle::get).get(0));
+        Assertions.assertEquals("reader-1", router.order(HOSTS, 2, idle::get).get(0));
+    }
+
+    @Test
+    void testEwmaLatency() {
+        final GremlinRouter router = new GremlinRouter(GremlinRoutingStrategy.EwmaLatency);
+        final Map<String, GremlinRouter.HostStats> stats = ImmutableMap.of(
+                "reader-1", createStats(0, 300, 300), "reader-2", createStats(0, 100), "reader-3",
+                createStats(0, 200));
+        Assertions.assertEquals(ImmutableList.of("reader-2", "reader-3", "reader-1"),
+                router.order(HOSTS, 0, stats::get));
+
+        // Requests in flight make a fast host less attractive.
+        final Map<String, GremlinRouter.HostStats> busy = ImmutableMap.of(
+                "reader-1", createStats(0, 300), "reader-2", createStats(3, 100), "reader-3", createStats(0, 200));
+        Assertions.assertEquals(ImmutableList.of("reader-3", "reader-1", "reader-2"),
+                router.order(HOSTS, 0, busy::get));
+
+        // Hosts without measured requests are tried first.
+        final Map<String, GremlinRouter.HostStats> unmeasured = ImmutableMap.of(
+                "reader-1", createStats(0, 100), "reader-2", createStats(0, 100), "reader-3", createStats(0));
+        Assertions.assertEquals("reader-3", router.order(HOSTS, 0, unmeasured::get).get(0));
+    }
+
+    @Test
+    void testMovingAverageLatency() {
+        final GremlinRouter.HostStats stats = createStats(0, 1000);
+        Assertions.assertEquals(1000, stats.getLatencyNanos(), 0.001);
+        stats.requestStarted();
+        stats.requestCompleted(2000);
+        Assertions.assertEquals(1300, stats.getLatencyNanos(), 0.001);
+        Assertions.assertEquals(0, stats.getInFlight());
+        Assertions.assertEquals(0, createStats(2).getScore(), 0.001);
+    }
+
+    @Test
+    void testRoutingStrategyFromString() {
+        Assertions.assertEquals(GremlinRoutingStrategy.EwmaLatency, GremlinRoutingStrategy.fromString("ewmaLatency"));
+        Assertions.assertEquals(GremlinRoutingStrategy.RoundRobin, GremlinRoutingStrategy.fromString("ROUNDROBIN"));
+        Assertions.assertNull(GremlinRoutingStrategy.fromString("random"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+class GremlinStatementBatchTest {
+    private static final String HOSTNAME = "localhost";
+    private static final int PORT = 8181; // Mock server uses 8181.
+    private static final int MAX_IN_PROCESS = 2;
+    // Shorter than the idle connection timeout of the mock server.
+    private static final int QUERY_MILLIS = 400;
+    private static java.sql.Connection connection;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        MockGremlinDatabase.startServer();
+        final Properties properties = getProperties(HOSTNAME, PORT);
+        properties.put(GremlinConnectionProperties.MAX_IN_PROCESS_PER_CONNECTION_KEY, MAX_IN_PROCESS);
+        connection = new GremlinConnection(new GremlinConnectionProperties(properties));
+    }
+
+    @AfterAll
+    static void shutdown() throws SQLException {
+        connection.close();
+        MockGremlinDatabase.stopServer();
+    }
+
+    @Test
+    void testExecuteBatch() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        final int queries = 10;
+        for (int i = 0; i < queries; i++) {
+            statement.addBatch(String.format("g.inject([id: %d])", i));
+        }
+        final int[] counts = statement.executeBatch();
+        Assertions.assertEquals(queries, counts.length);
+
+        // Results are returned in the order the queries were added.
+        for (int i = 0; i < queries; i++) {
+            Assertions.assertEquals(java.sql.Statement.SUCCESS_NO_INFO, counts[i]);
+            final java.sql.ResultSet resultSet = statement.getResultSet();
+            Assertions.assertTrue(resultSet.next());
+            Assertions.assertEquals(i, resultSet.getInt("id"));
+            Assertions.assertEquals(i < queries - 1, statement.getMoreResults());
+            Assertions.assertTrue(resultSet.isClosed());
+        }
+        Assertions.assertNull(statement.getResultSet());
+
+        // The batch is cleared once executed.
+        Assertions.assertEquals(0, statement.executeBatch().length);
+        statement.close();
+    }
+
+    @Test
+    void testExecuteBatchFailure() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.addBatch("g.inject(1)");
+        statement.addBatch("g.V().invalid()");
+        statement.addBatch("g.inject(3)");
+        final BatchUpdateException exception =
+                Assertions.assertThrows(BatchUpdateException.class, statement::executeBatch);
+        Assertions.assertArrayEquals(new int[] {java.sql.Statement.SUCCESS_NO_INFO,
+                        java.sql.Statement.EXECUTE_FAILED, java.sql.Statement.SUCCESS_NO_INFO},
+                exception.getUpdateCounts());
+        Assertions.assertNull(statement.getResultSet());
+        statement.close();
+    }
+
+    @Test
+    void testCancelBatchWhileSubmitting() throws Exception {
+        final java.sql.Statement statement = connection.createStatement();
+        final int queries = MAX_IN_PROCESS * 3;
+        for (int i = 0; i < queries; i++) {
+            statement.addBatch(String.format("Thread.sleep(%d); g.inject(1)", QUERY_MILLIS));
+        }
+        // Submission is waiting for the first queries to complete when the batch is cancelled.
+        final CompletableFuture<Void> cancel = CompletableFuture.runAsync(() -> {
+            try {
+                Thread.sleep(QUERY_MILLIS / 4);
+                statement.cancel();
+            } catch (final InterruptedException | SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        final long start = System.nanoTime();
+        final BatchUpdateException exception =
+                Assertions.assertThrows(BatchUpdateException.class, statement::executeBatch);
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < QUERY_MILLIS);
+        final int[] counts = new int[queries];
+        Arrays.fill(counts, java.sql.Statement.EXECUTE_FAILED);
+        Assertions.assertArrayEquals(counts, exception.getUpdateCounts());
+        cancel.get();
+        statement.close();
+    }
+
+    @Test
+    void testClearBatch() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.addBatch("g.inject(1)");
+        statement.clearBatch();
+        Assertions.assertEquals(0, statement.executeBatch().length);
+        statement.close();
+    }
+}
@@ -47,6 +47,31 @@ public class GremlinSqlAdvancedSelectTest extends GremlinSqlBaseTest {
                 rows(r(26L, 2L, 9, 64L)));
     }
 
+    @Test
+    public void testFetchSize() throws SQLException {
+        // Pages smaller than the result must not drop or reorder rows, whether fixed or adaptive.
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age", 1, false, columns("name", "age"),
+                rows(r("Patty", 29), r("Pavel", 30), r("Phil", 31), r("Tom", 35), r("Susan", 45), r("Juanita", 50)));
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age", 2, true, columns("name", "age"),
+                rows(r("Patty", 29), r("Pavel", 30), r("Phil", 31), r("Tom", 35), r("Susan", 45), r("Juanita", 50)));
+        runQueryTestResults("SELECT name, age FROM person ORDER BY age", 0, true, columns("name", "age"),
+                rows(r("Patty", 29), r("Pavel", 30), r("Phil", 31), r("Tom", 35), r("Susan", 45), r("Juanita", 50)));
+    }
+
+    @Test
+    public void testPaginationMetrics() throws SQLException {
+        // More pages than fit in the prefetch buffers, so the fetch stage has to wait for the consumer.
+        runQueryTestPaginationMetrics("SELECT name, age FROM person ORDER BY age", 1, 6, 6);
+        runQueryTestPaginationMetrics("SELECT name, age FROM person ORDER BY age", 4, 2, 6);
+    }
+
+    @Test
+    public void testCancel() throws SQLException {
+        // Whether the pagination is still running or not, the consumer is unblocked and gets the cancellation.
+        runQueryTestCancel("SELECT name, age FROM person ORDER BY age", 1);
+        runQueryTestCancel("SELECT name, age FROM person ORDER BY age", 0);
+    }
+
     @Test
     public void testOrder() throws SQLException {
         // ORDER with integer column.
@@ -109,6 +109,34 @@ public abstract class GremlinSqlBaseTest {
         assertRows(result.getRows(), rows);
     }
 
+    protected void runQueryTestResults(final String query, final int fetchSize, final boolean adaptiveFetchSize,
+                                       final List<String> columnNames, final List<List<?>> rows)
+            throws SQLException {
+        final SqlGremlinTestResult result =
+                new SqlGremlinTestResult(converter.executeQuery(g, query, fetchSize, adaptiveFetchSize));
+        assertColumns(result.getColumns(), columnNames);
+        assertRows(result.getRows(), rows);
+    }
+
+    protected void runQueryTestPaginationMetrics(final String query, final int fetchSize, final int expectedPages,
+                                                 final int expectedRows) throws SQLException {
+        final SqlGremlinQueryResult sqlGremlinQueryResult = converter.executeQuery(g, query, fetchSize, false);
+        final SqlGremlinTestResult result = new SqlGremlinTestResult(sqlGremlinQueryResult);
+        Assertions.assertEquals(expectedRows, result.getRows().size());
+        Assertions.assertEquals(expectedPages, sqlGremlinQueryResult.getPaginationMetrics().getPages());
+        Assertions.assertEquals(expectedRows, sqlGremlinQueryResult.getPaginationMetrics().getRows());
+    }
+
+    protected void runQueryTestCancel(final String query, final int fetchSize) throws SQLException {
+        final SqlGremlinQueryResult sqlGremlinQueryResult = converter.executeQuery(g, query, fetchSize, false);
+        sqlGremlinQueryResult.cancel();
+        Assertions.assertTrue(sqlGremlinQueryResult.isCancelled());
+        final Throwable t = Assertions.assertThrows(SQLException.class, sqlGremlinQueryResult::getResult);
+        Assert.assertEquals(SqlGremlinError.getMessage(SqlGremlinError.QUERY_CANCELED), t.getMessage());
+        // Cancelling again is a no-op.
+        Assertions.assertDoesNotThrow(sqlGremlinQueryResult::cancel);
+    }
+
     protected void runJoinQueryTestResults(final String query, final List<String> columnNames,
                                            final List<List<?>> rows)
             throws SQLException {
@@ -187,13 +215,10 @@ public abstract class GremlinSqlBaseTest {
 
         SqlGremlinTestResult(final SqlGremlinQueryResult sqlGremlinQueryResult) throws SQLException {
             columns = sqlGremlinQueryResult.getColumns();
-            List<?> res;
-            do {
-                res = sqlGremlinQueryResult.getResult();
-                if (!(res instanceof SqlGremlinQueryResult.EmptyResult)) {
-                    this.rows.add(res);
-                }
-            } while (!(res instanceof SqlGremlinQueryResult.EmptyResult));
+            Object[] res;
+            while ((res = sqlGremlinQueryResult.getResult()) != null) {
+                this.rows.add(Arrays.asList(res));
+            }
         }
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.adapter.results;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.adapter.results.pagination.Pagination;
+import software.aws.neptune.gremlin.adapter.results.pagination.PaginationExecutor;
+import software.aws.neptune.gremlin.adapter.results.pagination.SimpleDataReader;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+class SqlGremlinQueryResultTest {
+    private static final String LABEL = "person";
+    private static final String COLUMN = "name";
+    private static final Supplier<List<Object[]>> PAGE =
+            () -> Collections.singletonList(new Object[] {"value"});
+
+    private static SqlGremlinQueryResult createResult() throws SQLException {
+        // Without columns, the metadata is not used.
+        final SqlGremlinQueryResult result = new SqlGremlinQueryResult(Collections.emptyList(), null);
+        result.setPageSize(1);
+        return result;
+    }
+
+    private static Pagination createPagination(final SqlGremlinQueryResult result, final int rows) {
+        final Map<?, ?>[] maps = new Map<?, ?>[rows];
+        for (int i = 0; i < rows; i++) {
+            maps[i] = ImmutableMap.of(LABEL, ImmutableMap.of(COLUMN, "p" + i));
+        }
+        return new Pagination(new SimpleDataReader(LABEL, Collections.singletonList(COLUMN)),
+                TinkerGraph.open().traversal().inject(maps), result);
+    }
+
+    @Test
+    void testAdaptivePageSizeDoublesWhileConsumerKeepsPace() throws SQLException {
+        final SqlGremlinQueryResult result = new SqlGremlinQueryResult(Collections.emptyList(), null, 0, true);
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_INITIAL_PAGE_SIZE, result.nextPageSize());
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_INITIAL_PAGE_SIZE * 2, result.nextPageSize());
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_INITIAL_PAGE_SIZE * 4, result.nextPageSize());
+    }
+
+    @Test
+    void testAdaptivePageSizeStaysWhilePagesAreWaiting() throws SQLException {
+        final SqlGremlinQueryResult result = new SqlGremlinQueryResult(Collections.emptyList(), null, 0, true);
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_INITIAL_PAGE_SIZE, result.nextPageSize());
+        Assertions.assertTrue(result.addPage(PAGE, null));
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_INITIAL_PAGE_SIZE, result.nextPageSize());
+
+        // Grows again once the consumer took the waiting page.
+        result.getResult();
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_INITIAL_PAGE_SIZE * 2, result.nextPageSize());
+    }
+
+    @Test
+    void testAdaptivePageSizeIsCapped() throws SQLException {
+        final SqlGremlinQueryResult result = new SqlGremlinQueryResult(Collections.emptyList(), null,
+                SqlGremlinQueryResult.ADAPTIVE_MAX_PAGE_SIZE - 1, true);
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_MAX_PAGE_SIZE - 1, result.nextPageSize());
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_MAX_PAGE_SIZE, result.nextPageSize());
+        Assertions.assertEquals(SqlGremlinQueryResult.ADAPTIVE_MAX_PAGE_SIZE, result.nextPageSize());
+    }
+
+    @Test
+    void testPageSizeIsFixedWithoutAdaptivePaging() throws SQLException {
+        final SqlGremlinQueryResult result = new SqlGremlinQueryResult(Collections.emptyList(), null, 0, false);
+        Assertions.assertEquals(SqlGremlinQueryResult.DEFAULT_PAGE_SIZE, result.nextPageSize());
+        Assertions.assertEquals(SqlGremlinQueryResult.DEFAULT_PAGE_SIZE, result.nextPageSize());
+    }
+
+    @Test
+    void testCloseDoesNotBlockWhenPagesAreWaiting() throws Exception {
+        final SqlGremlinQueryResult result = createResult();
+        for (int i = 0; i < SqlGremlinQueryResult.PREFETCH_PAGES; i++) {
+            Assertions.assertTrue(result.addPage(PAGE, null));
+        }
+        CompletableFuture.runAsync(result::close).get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < SqlGremlinQueryResult.PREFETCH_PAGES; i++) {
+            Assertions.assertEquals("value", result.getResult()[0]);
+        }
+        Assertions.assertNull(result.getResult());
+    }
+
+    @Test
+    void testPaginationIsSuspendedAndResumed() throws Exception {
+        final SqlGremlinQueryResult result = createResult();
+        final int pages = SqlGremlinQueryResult.PREFETCH_PAGES + 3;
+        final Future<?> pagination = PaginationExecutor.execute(createPagination(result, pages));
+        result.setPaginationTask(pagination);
+        // The Pagination stops once PREFETCH_PAGES pages are waiting, without holding its thread.
+        pagination.get(5, TimeUnit.SECONDS);
+        Assertions.assertFalse(result.isPaginationComplete());
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < pages; i++) {
+                Assertions.assertEquals("p" + i, result.getResult()[0]);
+            }
+            Assertions.assertNull(result.getResult());
+        });
+    }
+
+    @Test
+    void testCancelSuspendedPagination() throws Exception {
+        final SqlGremlinQueryResult result = createResult();
+        final Future<?> pagination =
+                PaginationExecutor.execute(createPagination(result, SqlGremlinQueryResult.PREFETCH_PAGES + 3));
+        result.setPaginationTask(pagination);
+        pagination.get(5, TimeUnit.SECONDS);
+        result.cancel();
+        Assertions.assertThrows(SQLException.class, result::getResult);
+    }
+
+    @Test
+    void testUnreadResultsDoNotHoldPaginationThreads() throws Exception {
+        final int pages = SqlGremlinQueryResult.PREFETCH_PAGES + 3;
+        final List<SqlGremlinQueryResult> results = new ArrayList<>();
+        try {
+            for (int i = 0; i <= PaginationExecutor.DEFAULT_MAX_THREADS; i++) {
+                final SqlGremlinQueryResult result = createResult();
+                result.setPaginationTask(PaginationExecutor.execute(createPagination(result, pages)));
+                results.add(result);
+            }
+            // Every other result is left unread, the last one still gets a thread for its Pagination.
+            final SqlGremlinQueryResult last = results.get(results.size() - 1);
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < pages; i++) {
+                    Assertions.assertEquals("p" + i, last.getResult()[0]);
+                }
+                Assertions.assertNull(last.getResult());
+            });
+        } finally {
+            results.forEach(SqlGremlinQueryResult::cancel);
+        }
+    }
+
+    @Test
+    void testInterruptedConsumerThrows() throws SQLException {
+        final SqlGremlinQueryResult result = createResult();
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(SQLException.class, result::getResult);
+            Assertions.assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.resultset;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class GremlinColumnRegistryTest {
+    @Test
+    void testColumnIndexes() {
+        final GremlinColumnRegistry registry = new GremlinColumnRegistry();
+        Assertions.assertEquals(-1, registry.getIndex("name"));
+        Assertions.assertEquals(0, registry.addColumn("name"));
+        Assertions.assertEquals(1, registry.addColumn(T.id));
+        Assertions.assertEquals(0, registry.addColumn("name"));
+        // Keys of different types with the same name share a column.
+        Assertions.assertEquals(1, registry.getIndex("id"));
+        Assertions.assertEquals(1, registry.addColumn("id"));
+        Assertions.assertTrue(registry.contains("id"));
+        Assertions.assertFalse(registry.contains("label"));
+        Assertions.assertEquals(2, registry.size());
+        Assertions.assertEquals(ImmutableList.of("name", "id"), registry.getColumns());
+    }
+
+    @Test
+    void testColumnTypes() {
+        final GremlinColumnRegistry registry = new GremlinColumnRegistry();
+        final int nullColumn = registry.addColumn("null");
+        final int longColumn = registry.addColumn("long");
+        final int mixedColumn = registry.addColumn("mixed");
+        final int unsupportedColumn = registry.addColumn("unsupported");
+
+        registry.addValue(nullColumn, null);
+        registry.addValue(longColumn, null);
+        registry.addValue(longColumn, 1L);
+        registry.addValue(longColumn, 2L);
+        registry.addValue(mixedColumn, 1L);
+        registry.addValue(mixedColumn, 1);
+        registry.addValue(mixedColumn, 2L);
+        registry.addValue(unsupportedColumn, new Object());
+
+        Assertions.assertEquals(ImmutableList.of(String.class, Long.class, String.class, String.class),
+                registry.getColumnTypes());
+    }
+}
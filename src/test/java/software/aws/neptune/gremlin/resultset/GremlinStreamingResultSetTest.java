@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.resultset;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.GremlinConnection;
+import software.aws.neptune.gremlin.GremlinConnectionProperties;
+import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+class GremlinStreamingResultSetTest {
+    private static final String HOSTNAME = "localhost";
+    private static final int PORT = 8181; // Mock server uses 8181.
+    private static final int COLUMN_DISCOVERY_ROWS = 2;
+    private static java.sql.Connection connection;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        MockGremlinDatabase.startServer();
+        final Properties properties = getProperties(HOSTNAME, PORT);
+        properties.put(GremlinConnectionProperties.STREAM_RESULTS_KEY, true);
+        properties.put(GremlinConnectionProperties.COLUMN_DISCOVERY_ROWS_KEY, COLUMN_DISCOVERY_ROWS);
+        connection = new GremlinConnection(new GremlinConnectionProperties(properties));
+    }
+
+    @AfterAll
+    static void shutdown() throws SQLException {
+        connection.close();
+        MockGremlinDatabase.stopServer();
+    }
+
+    @Test
+    void testScalarResults() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(2);
+        final java.sql.ResultSet resultSet = statement.executeQuery("g.inject(1, 2, 3, 4, 5)");
+        Assertions.assertTrue(resultSet instanceof GremlinStreamingResultSet);
+        Assertions.assertEquals(2, resultSet.getFetchSize());
+        Assertions.assertEquals(1, resultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals("_col0", resultSet.getMetaData().getColumnName(1));
+        Assertions.assertEquals(Types.INTEGER, resultSet.getMetaData().getColumnType(1));
+
+        Assertions.assertTrue(resultSet.isBeforeFirst());
+        int expected = 1;
+        while (resultSet.next()) {
+            Assertions.assertEquals(expected, resultSet.getRow());
+            Assertions.assertEquals(expected, resultSet.getInt(1));
+            expected++;
+        }
+        Assertions.assertEquals(6, expected);
+        Assertions.assertTrue(resultSet.isAfterLast());
+        Assertions.assertFalse(resultSet.next());
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getInt(1));
+        resultSet.close();
+    }
+
+    @Test
+    void testColumnWidening() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement().executeQuery("g.inject(1, 'a', 2)");
+        // Values of different types were seen in the first results, the column is widened to String.
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("1", resultSet.getObject(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("a", resultSet.getObject(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("2", resultSet.getObject(1));
+        Assertions.assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testColumnsAfterDiscovery() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement()
+                .executeQuery("g.inject([a: 1], [a: 2, b: 'x'], [a: 'y', b: 'z', c: 3])");
+        Assertions.assertEquals(2, resultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals(1, resultSet.findColumn("a"));
+        Assertions.assertEquals(2, resultSet.findColumn("b"));
+        Assertions.assertEquals(Types.INTEGER, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertThrows(SQLException.class, () -> resultSet.findColumn("c"));
+
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1, resultSet.getInt("a"));
+        Assertions.assertNull(resultSet.getString("b"));
+        Assertions.assertTrue(resultSet.wasNull());
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(2, resultSet.getInt("a"));
+        Assertions.assertEquals("x", resultSet.getString("b"));
+        Assertions.assertTrue(resultSet.next());
+        // Column types are fixed once discovered, a value of another type is returned as String.
+        Assertions.assertEquals("y", resultSet.getObject("a"));
+        Assertions.assertEquals("z", resultSet.getString("b"));
+        Assertions.assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testEmptyResult() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement().executeQuery("g.inject().limit(0)");
+        Assertions.assertEquals(0, resultSet.getMetaData().getColumnCount());
+        Assertions.assertFalse(resultSet.next());
+        Assertions.assertTrue(resultSet.isAfterLast());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.gremlin.sql;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.gremlin.GremlinConnection;
+import software.aws.neptune.gremlin.GremlinConnectionProperties;
+import software.aws.neptune.gremlin.adapter.results.SqlGremlinQueryResult;
+import software.aws.neptune.gremlin.mock.MockGremlinDatabase;
+import software.aws.neptune.jdbc.Statement;
+import java.sql.SQLException;
+
+import static software.aws.neptune.gremlin.GremlinHelper.getProperties;
+
+class SqlGremlinStatementCancelTest {
+    // The metadata cache is keyed by contact point, this keeps the schema of this test apart from other tests.
+    private static final String HOSTNAME = "127.0.0.1";
+    private static final int PORT = 8181; // Mock server uses 8181.
+    private static final int ROWS = 1000;
+    private static final int FETCH_SIZE = 10;
+    private static final String QUERY = "SELECT name FROM person";
+    private static java.sql.Connection connection;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        MockGremlinDatabase.startServer();
+        try (java.sql.Connection gremlinConnection =
+                     new GremlinConnection(new GremlinConnectionProperties(getProperties(HOSTNAME, PORT)))) {
+            gremlinConnection.createStatement().executeQuery(String.format(
+                    "(1..%d).each { g.addV('person').property('name', 'p' + it).iterate() }; g.V().count()", ROWS));
+        }
+        connection = new SqlGremlinConnection(new GremlinConnectionProperties(getProperties(HOSTNAME, PORT)));
+    }
+
+    @AfterAll
+    static void shutdown() throws SQLException {
+        connection.close();
+        MockGremlinDatabase.stopServer();
+    }
+
+    @Test
+    void testStatementCancelStopsPagination() throws SQLException {
+        final CapturingQueryExecutor queryExecutor = new CapturingQueryExecutor();
+        final Statement statement = new Statement(connection, queryExecutor);
+        statement.setFetchSize(FETCH_SIZE);
+        final java.sql.ResultSet resultSet = statement.executeQuery(QUERY);
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertFalse(queryExecutor.queryResult.isPaginationComplete());
+
+        statement.cancel();
+        Assertions.assertTrue(queryExecutor.queryResult.isCancelled());
+        Assertions.assertThrows(SQLException.class, () -> {
+            while (resultSet.next()) {
+                resultSet.getString(1);
+            }
+        });
+        statement.close();
+    }
+
+    @Test
+    void testCancelBeforePaginationIsLaunched() throws SQLException {
+        final CapturingQueryExecutor queryExecutor = new CapturingQueryExecutor();
+        final Statement statement = new Statement(connection, queryExecutor);
+        statement.setFetchSize(FETCH_SIZE);
+        queryExecutor.cancelOnStart = statement;
+        Assertions.assertThrows(SQLException.class, () -> statement.executeQuery(QUERY));
+        Assertions.assertTrue(queryExecutor.queryResult.isCancelled());
+
+        // The cancel does not carry over to the next query.
+        final java.sql.ResultSet resultSet = statement.executeQuery(QUERY);
+        int rows = 0;
+        while (resultSet.next()) {
+            rows++;
+        }
+        Assertions.assertEquals(ROWS, rows);
+        Assertions.assertFalse(queryExecutor.queryResult.isCancelled());
+        statement.close();
+    }
+
+    @Test
+    void testResultSetCloseStopsPagination() throws SQLException {
+        final CapturingQueryExecutor queryExecutor = new CapturingQueryExecutor();
+        final Statement statement = new Statement(connection, queryExecutor);
+        statement.setFetchSize(FETCH_SIZE);
+        final java.sql.ResultSet resultSet = statement.executeQuery(QUERY);
+        Assertions.assertTrue(resultSet.next());
+        resultSet.close();
+        Assertions.assertTrue(queryExecutor.queryResult.isCancelled());
+        statement.close();
+    }
+
+    /**
+     * Executor keeping the result of its last query, which can also cancel its Statement once the query is started.
+     */
+    private static class CapturingQueryExecutor extends SqlGremlinQueryExecutor {
+        private volatile SqlGremlinQueryResult queryResult = null;
+        private volatile Statement cancelOnStart = null;
+
+        CapturingQueryExecutor() throws SQLException {
+            super(((SqlGremlinConnection) connection).getGremlinConnectionProperties());
+        }
+
+        @Override
+        protected long getQueryTimeoutMillis() {
+            // Called once the query is in progress, before it is converted and its pagination is launched.
+            final Statement statement = cancelOnStart;
+            if (statement != null) {
+                cancelOnStart = null;
+                try {
+                    statement.cancel();
+                } catch (final SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return super.getQueryTimeoutMillis();
+        }
+
+        @Override
+        protected <T> T runQuery(final String query) {
+            final T result = super.runQuery(query);
+            queryResult = (SqlGremlinQueryResult) result;
+            return result;
+        }
+    }
+}
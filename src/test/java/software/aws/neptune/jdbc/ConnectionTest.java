@@ -251,6 +251,25 @@ public class ConnectionTest {
         HelperFunctions.expectFunctionDoesntThrow(() -> connection.getTypeMap(), new HashMap<>());
     }
 
+    @Test
+    void testValidationWindow() throws SQLException {
+        // The mock database never validates, only a recent round trip makes the connection valid.
+        HelperFunctions.expectFunctionThrows(() -> connection.isValid(-1));
+        HelperFunctions.expectFunctionDoesntThrow(() -> connection.isValid(1), false);
+        ((Connection) connection).recordRoundTrip();
+        HelperFunctions.expectFunctionDoesntThrow(() -> connection.isValid(1), true);
+
+        final Properties properties = new Properties();
+        properties.putAll(PROPERTIES);
+        properties.put(ConnectionProperties.VALIDATION_WINDOW_MILLIS_KEY, "0");
+        final Connection noWindowConnection = new MockConnection(new OpenCypherConnectionProperties(properties));
+        noWindowConnection.recordRoundTrip();
+        HelperFunctions.expectFunctionDoesntThrow(() -> noWindowConnection.isValid(1), false);
+
+        connection.close();
+        HelperFunctions.expectFunctionDoesntThrow(() -> connection.isValid(1), false);
+    }
+
     @Test
     void testNativeSQL() {
         HelperFunctions.expectFunctionDoesntThrow(() -> connection.nativeSQL(TEST_NATIVE_SQL), TEST_NATIVE_SQL);
@@ -16,16 +16,22 @@
 
 package software.aws.neptune.jdbc;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.aws.neptune.jdbc.helpers.HelperFunctions;
 import software.aws.neptune.jdbc.mock.MockConnection;
+import software.aws.neptune.jdbc.mock.MockQueryExecutor;
 import software.aws.neptune.jdbc.mock.MockResultSet;
 import software.aws.neptune.jdbc.mock.MockStatement;
+import software.aws.neptune.jdbc.utilities.QueryExecutor;
 import software.aws.neptune.opencypher.OpenCypherConnectionProperties;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Test for abstract Statement Object.
@@ -111,6 +117,42 @@ public class StatementTest {
         HelperFunctions.expectFunctionThrows(() -> statement.clearBatch());
     }
 
+    @Test
+    void testQueryTimeout() throws SQLException {
+        Assertions.assertEquals(0, statement.getQueryTimeout());
+        HelperFunctions.expectFunctionThrows(() -> statement.setQueryTimeout(-1));
+        HelperFunctions.expectFunctionDoesntThrow(() -> statement.setQueryTimeout(1));
+        Assertions.assertEquals(1, statement.getQueryTimeout());
+
+        // Query which only completes when it is cancelled.
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final QueryExecutor queryExecutor = new MockQueryExecutor() {
+            @Override
+            public ResultSet executeQuery(final String sql, final java.sql.Statement sqlStatement)
+                    throws SQLException {
+                return runCancellableQuery(null, sqlStatement, sql);
+            }
+
+            @Override
+            protected <T> T runQuery(final String query) throws SQLException {
+                try {
+                    Assertions.assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+
+            @Override
+            protected void performCancel() {
+                cancelled.countDown();
+            }
+        };
+        queryExecutor.setQueryTimeout(1);
+        Assertions.assertThrows(SQLTimeoutException.class, () -> queryExecutor.executeQuery("", statement));
+        Assertions.assertEquals(0, cancelled.getCount());
+    }
+
     @Test
     void testClosed() {
         HelperFunctions.expectFunctionDoesntThrow(() -> statement.isClosed(), false);
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.AsyncStatement;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.opencypher.mock.MockOpenCypherDatabase;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class OpenCypherAsyncStatementTest {
+    private static final String HOSTNAME = "localhost";
+    private static final Properties PROPERTIES = new Properties();
+    private static MockOpenCypherDatabase database;
+    private static java.sql.Connection connection;
+
+    /**
+     * Function to get a random available port and initialize database before testing.
+     */
+    @BeforeAll
+    public static void initializeDatabase() throws SQLException {
+        database = MockOpenCypherDatabase.builder(HOSTNAME, OpenCypherAsyncStatementTest.class.getName()).build();
+        PROPERTIES.put(OpenCypherConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None); // reverse default to None
+        PROPERTIES.putIfAbsent(OpenCypherConnectionProperties.ENDPOINT_KEY,
+                String.format("bolt://%s:%d", HOSTNAME, database.getPort()));
+        connection = new OpenCypherConnection(new OpenCypherConnectionProperties(PROPERTIES));
+    }
+
+    /**
+     * Function to get a shutdown database after testing.
+     */
+    @AfterAll
+    public static void shutdownDatabase() throws SQLException {
+        connection.close();
+        database.shutdown();
+    }
+
+    @Test
+    void testExecuteQueryAsync() throws Exception {
+        final AsyncStatement asyncStatement = connection.createStatement().unwrap(AsyncStatement.class);
+        final List<CompletableFuture<java.sql.ResultSet>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(asyncStatement.executeQueryAsync(String.format("RETURN %d AS x", i)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            final java.sql.ResultSet resultSet = futures.get(i).get();
+            Assertions.assertTrue(resultSet.next());
+            Assertions.assertEquals(i, resultSet.getInt("x"));
+            Assertions.assertFalse(resultSet.next());
+            resultSet.close();
+        }
+    }
+
+    @Test
+    void testExecuteQueryAsyncFailure() throws SQLException {
+        final AsyncStatement asyncStatement = connection.createStatement().unwrap(AsyncStatement.class);
+        final CompletableFuture<java.sql.ResultSet> future = asyncStatement.executeQueryAsync("INVALID QUERY");
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+        Assertions.assertTrue(exception.getCause() instanceof SQLException);
+    }
+}
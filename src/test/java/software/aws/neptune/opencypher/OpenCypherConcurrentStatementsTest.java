@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.opencypher.mock.MockOpenCypherDatabase;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class OpenCypherConcurrentStatementsTest {
+    private static final String HOSTNAME = "localhost";
+    private static final Properties PROPERTIES = new Properties();
+    private static final String LONG_QUERY = "UNWIND range(1, 100000000) AS x RETURN count(x) AS count";
+    private static MockOpenCypherDatabase database;
+    private static java.sql.Connection connection;
+
+    /**
+     * Function to get a random available port and initialize database before testing.
+     */
+    @BeforeAll
+    public static void initializeDatabase() throws SQLException {
+        database = MockOpenCypherDatabase.builder(HOSTNAME, OpenCypherConcurrentStatementsTest.class.getName())
+                .build();
+        PROPERTIES.put(OpenCypherConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None); // reverse default to None
+        PROPERTIES.putIfAbsent(OpenCypherConnectionProperties.ENDPOINT_KEY,
+                String.format("bolt://%s:%d", HOSTNAME, database.getPort()));
+        connection = new OpenCypherConnection(new OpenCypherConnectionProperties(PROPERTIES));
+    }
+
+    /**
+     * Function to get a shutdown database after testing.
+     */
+    @AfterAll
+    public static void shutdownDatabase() throws SQLException {
+        connection.close();
+        database.shutdown();
+    }
+
+    private static CompletableFuture<Long> executeAsync(final java.sql.Statement statement, final String query) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (java.sql.ResultSet resultSet = statement.executeQuery(query)) {
+                Assertions.assertTrue(resultSet.next());
+                return resultSet.getLong(1);
+            } catch (final SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static void cancelWhenInProgress(final java.sql.Statement statement, final CompletableFuture<Long> query)
+            throws InterruptedException {
+        // Gives the driver time to send the query. A cancel which overtakes it is repeated once the query is
+        // acknowledged, which the mock server only does once the result is computed.
+        Thread.sleep(500);
+        // Cancelling fails until the query is in progress.
+        boolean cancelled = false;
+        while (!cancelled && !query.isDone()) {
+            try {
+                statement.cancel();
+                cancelled = true;
+            } catch (final SQLException e) {
+                Thread.sleep(10);
+            }
+        }
+        Assertions.assertTrue(cancelled);
+    }
+
+    @Test
+    void testConcurrentStatements() throws Exception {
+        final List<java.sql.Statement> statements = new ArrayList<>();
+        final List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final java.sql.Statement statement = connection.createStatement();
+            statements.add(statement);
+            results.add(executeAsync(statement, String.format("UNWIND range(1, 10000) AS x RETURN sum(x) + %d", i)));
+        }
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertEquals(50005000L + i, results.get(i).get(30, TimeUnit.SECONDS));
+            statements.get(i).close();
+        }
+    }
+
+    @Test
+    void testCancelOneStatement() throws Exception {
+        final java.sql.Statement longStatement = connection.createStatement();
+        // Stops the query on the database once the test is done with it.
+        longStatement.setQueryTimeout(10);
+        final java.sql.Statement quickStatement = connection.createStatement();
+        final CompletableFuture<Long> longQuery = executeAsync(longStatement, LONG_QUERY);
+        cancelWhenInProgress(longStatement, longQuery);
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> longQuery.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(SqlError.lookup(SqlError.QUERY_CANCELED), exception.getCause().getCause().getMessage());
+
+        // Other statements of the connection are not affected.
+        Assertions.assertEquals(1L, executeAsync(quickStatement, "RETURN 1").get(30, TimeUnit.SECONDS));
+        longStatement.close();
+        quickStatement.close();
+    }
+
+    @Test
+    void testCancelStopsQueryOnDatabase() throws Exception {
+        final java.sql.Statement longStatement = connection.createStatement();
+        final java.sql.Statement quickStatement = connection.createStatement();
+        Assertions.assertEquals(1L, executeAsync(quickStatement,
+                "CREATE (lock:CancelLock {owner: 'none'}) RETURN count(lock)").get(30, TimeUnit.SECONDS));
+        // The long query holds the write lock of the node until its transaction ends on the database.
+        final CompletableFuture<Long> longQuery = executeAsync(longStatement,
+                "MATCH (lock:CancelLock) SET lock.owner = 'long' WITH lock " + LONG_QUERY);
+        cancelWhenInProgress(longStatement, longQuery);
+        Assertions.assertThrows(ExecutionException.class, () -> longQuery.get(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(1L, executeAsync(quickStatement,
+                "MATCH (lock:CancelLock) SET lock.owner = 'quick' RETURN count(lock)").get(5, TimeUnit.SECONDS));
+        longStatement.close();
+        quickStatement.close();
+    }
+}
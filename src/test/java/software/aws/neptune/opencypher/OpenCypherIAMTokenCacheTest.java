@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.internal.security.InternalAuthToken;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.neo4j.driver.internal.security.InternalAuthToken.CREDENTIALS_KEY;
+
+class OpenCypherIAMTokenCacheTest {
+    private static final String URL = "bolt://somehost.com:58763";
+    private static final String REGION = "us-west-2";
+    private static final long REFRESH_INTERVAL_MILLIS = 500;
+    private final CountingCredentialsProvider credentialsProvider = new CountingCredentialsProvider();
+    private OpenCypherIAMTokenCache tokenCache;
+
+    @BeforeEach
+    void initialize() {
+        tokenCache = new OpenCypherIAMTokenCache(credentialsProvider, REFRESH_INTERVAL_MILLIS);
+    }
+
+    @AfterEach
+    void shutdown() {
+        tokenCache.shutdown();
+    }
+
+    @Test
+    void testTokenIsCachedByEndpointAndRegion() {
+        final AuthToken authToken = tokenCache.getAuthToken(URL, REGION);
+        Assertions.assertSame(authToken, tokenCache.getAuthToken(URL, REGION));
+        Assertions.assertEquals(1, credentialsProvider.getCount());
+        Assertions.assertNotSame(authToken, tokenCache.getAuthToken(URL, "us-east-1"));
+        Assertions.assertNotSame(authToken, tokenCache.getAuthToken("bolt://otherhost.com:58763", REGION));
+        Assertions.assertEquals(3, credentialsProvider.getCount());
+    }
+
+    @Test
+    void testUsedTokenIsRefreshedInBackground() throws InterruptedException {
+        final AuthToken authToken = tokenCache.getAuthToken(URL, REGION);
+        Assertions.assertTrue(getCredentials(authToken).contains("key1/"));
+
+        // The token was used, so it is re-signed before it expires.
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (credentialsProvider.getCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(2, credentialsProvider.getCount());
+
+        // The token is not used anymore, so it is not re-signed in the background.
+        Thread.sleep(REFRESH_INTERVAL_MILLIS * 3);
+        Assertions.assertEquals(2, credentialsProvider.getCount());
+
+        // Its signature is too old once it is used again, so it is re-signed when it is used.
+        final String credentials = getCredentials(authToken);
+        Assertions.assertFalse(credentials.contains("key1/") || credentials.contains("key2/"));
+        Assertions.assertTrue(credentialsProvider.getCount() >= 3);
+    }
+
+    private static String getCredentials(final AuthToken authToken) {
+        return ((InternalAuthToken) authToken).toMap().get(CREDENTIALS_KEY).asString();
+    }
+
+    private static class CountingCredentialsProvider implements AWSCredentialsProvider {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public AWSCredentials getCredentials() {
+            return new BasicAWSCredentials("key" + count.incrementAndGet(), "secret");
+        }
+
+        @Override
+        public void refresh() {
+            // Every call returns new credentials.
+        }
+
+        int getCount() {
+            return count.get();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.opencypher.mock.MockOpenCypherDatabase;
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+public class OpenCypherPreparedStatementParametersTest {
+    private static final String HOSTNAME = "localhost";
+    private static final Properties PROPERTIES = new Properties();
+    private static MockOpenCypherDatabase database;
+    private static java.sql.Connection connection;
+
+    /**
+     * Function to get a random available port and initialize database before testing.
+     */
+    @BeforeAll
+    public static void initializeDatabase() throws SQLException {
+        database = MockOpenCypherDatabase.builder(HOSTNAME, OpenCypherPreparedStatementParametersTest.class.getName())
+                .build();
+        PROPERTIES.put(OpenCypherConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None); // reverse default to None
+        PROPERTIES.putIfAbsent(OpenCypherConnectionProperties.ENDPOINT_KEY,
+                String.format("bolt://%s:%d", HOSTNAME, database.getPort()));
+        connection = new OpenCypherConnection(new OpenCypherConnectionProperties(PROPERTIES));
+    }
+
+    /**
+     * Function to get a shutdown database after testing.
+     */
+    @AfterAll
+    public static void shutdownDatabase() throws SQLException {
+        connection.close();
+        database.shutdown();
+    }
+
+    @Test
+    void testParameterNames() {
+        Assertions.assertEquals(ImmutableList.of("name", "age", "x1"),
+                OpenCypherParameterMetaData.parseParameterNames(
+                        "MATCH (n {name: $name}) WHERE n.age > $age AND n.age < $age + $x1 RETURN n"));
+        // Placeholders in literals, quoted names and comments are not parameters.
+        Assertions.assertEquals(ImmutableList.of("a", "quoted name"),
+                OpenCypherParameterMetaData.parseParameterNames(
+                        "RETURN $a, '$b', \"\\\"$c\", `$d` AS d, $`quoted name` // $e\n /* $f */"));
+        Assertions.assertEquals(ImmutableList.of(), OpenCypherParameterMetaData.parseParameterNames("RETURN 1"));
+    }
+
+    @Test
+    void testParameterMetaData() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement =
+                connection.prepareStatement("RETURN $name AS name, $age AS age, $name AS alias");
+        final ParameterMetaData parameterMetaData = preparedStatement.getParameterMetaData();
+        Assertions.assertEquals(2, parameterMetaData.getParameterCount());
+        Assertions.assertEquals(Types.JAVA_OBJECT, parameterMetaData.getParameterType(1));
+        Assertions.assertEquals(ParameterMetaData.parameterModeIn, parameterMetaData.getParameterMode(2));
+        Assertions.assertEquals("age", parameterMetaData.unwrap(OpenCypherParameterMetaData.class).getParameterName(2));
+        Assertions.assertThrows(SQLException.class, () -> parameterMetaData.getParameterType(3));
+        preparedStatement.close();
+    }
+
+    @Test
+    void testParameters() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement =
+                connection.prepareStatement("RETURN $name AS name, $age AS age, $score AS score, $at AS at");
+        preparedStatement.setString(1, "marko");
+        preparedStatement.setLong(2, 29L);
+        preparedStatement.setDouble(3, 0.5);
+        preparedStatement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.of(2021, 1, 2, 3, 4, 5)));
+        java.sql.ResultSet resultSet = preparedStatement.executeQuery();
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("marko", resultSet.getString("name"));
+        Assertions.assertEquals(29L, resultSet.getLong("age"));
+        Assertions.assertEquals(0.5, resultSet.getDouble("score"));
+        Assertions.assertEquals(Timestamp.valueOf(LocalDateTime.of(2021, 1, 2, 3, 4, 5)),
+                resultSet.getTimestamp("at"));
+        Assertions.assertFalse(resultSet.next());
+
+        // The same query is executed again with other values.
+        preparedStatement.setObject(1, "vadas");
+        preparedStatement.setNull(2, Types.BIGINT);
+        preparedStatement.setInt(3, 1);
+        resultSet = preparedStatement.executeQuery();
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("vadas", resultSet.getString("name"));
+        Assertions.assertNull(resultSet.getObject("age"));
+        Assertions.assertTrue(resultSet.wasNull());
+        Assertions.assertEquals(1L, resultSet.getLong("score"));
+        Assertions.assertFalse(resultSet.next());
+        preparedStatement.close();
+    }
+
+    @Test
+    void testInvalidParameters() throws SQLException {
+        final java.sql.PreparedStatement preparedStatement = connection.prepareStatement("RETURN $x AS x");
+        Assertions.assertThrows(SQLException.class, () -> preparedStatement.setInt(0, 1));
+        // The query has a single placeholder.
+        preparedStatement.setInt(2, 1);
+        Assertions.assertThrows(SQLException.class, preparedStatement::executeQuery);
+        preparedStatement.clearParameters();
+        preparedStatement.setObject(1, new Object());
+        Assertions.assertThrows(SQLException.class, preparedStatement::executeQuery);
+        preparedStatement.close();
+    }
+}
@@ -257,6 +257,37 @@ public class OpenCypherResultSetMetadataTest {
         Assertions.assertEquals("", getResultSetMetaData("RETURN 'foo' as n").getCatalogName(1));
     }
 
+    @Test
+    void testColumnTypePromotion() throws SQLException {
+        final String query = "UNWIND [[null, 1, 1, true, null], [2, 2.5, 'a', true, null]] AS r "
+                + "RETURN r[0] AS a, r[1] AS b, r[2] AS c, r[3] AS d, r[4] AS e";
+        final ResultSetMetaData metaData = getResultSetMetaData(query);
+        Assertions.assertEquals(Types.BIGINT, metaData.getColumnType(1));
+        Assertions.assertEquals(Types.DOUBLE, metaData.getColumnType(2));
+        Assertions.assertEquals(Types.VARCHAR, metaData.getColumnType(3));
+        Assertions.assertEquals(Types.BIT, metaData.getColumnType(4));
+        Assertions.assertEquals(Types.NULL, metaData.getColumnType(5));
+        Assertions.assertEquals(Types.VARCHAR, getResultSetMetaData("UNWIND [] AS x RETURN x").getColumnType(1));
+
+        // The values are converted to the promoted type of their column.
+        final java.sql.ResultSet resultSet = statement.executeQuery(query);
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertNull(resultSet.getObject(1));
+        Assertions.assertEquals(1.0, resultSet.getObject(2));
+        Assertions.assertEquals("1", resultSet.getObject(3));
+        Assertions.assertEquals(true, resultSet.getObject(4));
+        Assertions.assertNull(resultSet.getObject(5));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(2L, resultSet.getObject(1));
+        Assertions.assertEquals(2.5, resultSet.getObject(2));
+        Assertions.assertEquals("a", resultSet.getObject(3));
+        for (int column = 1; column <= 4; column++) {
+            Assertions.assertEquals(metaData.getColumnClassName(column),
+                    resultSet.getObject(column).getClass().getName());
+        }
+        Assertions.assertFalse(resultSet.next());
+    }
+
     @AllArgsConstructor
     @Getter
     static
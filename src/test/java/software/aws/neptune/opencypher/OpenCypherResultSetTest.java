@@ -447,4 +447,32 @@ public class OpenCypherResultSetTest {
         Assertions.assertTrue(resultSet.next());
 
     }
+
+    @Test
+    void testMixedTypeColumn() throws SQLException {
+        final java.sql.ResultSet resultSet =
+                statement.executeQuery("UNWIND [null, 1, 2, 'three', 4.5, null, 6] AS x RETURN x");
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertNull(resultSet.getObject(1));
+        Assertions.assertTrue(resultSet.wasNull());
+        Assertions.assertTrue(resultSet.next());
+        // The column holds strings and numbers, so it is a VARCHAR column.
+        Assertions.assertEquals("1", resultSet.getObject(1));
+        Assertions.assertEquals("1", resultSet.getString(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("2", resultSet.getString(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("three", resultSet.getObject(1));
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getLong(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("4.5", resultSet.getObject(1));
+        Assertions.assertEquals("4.5", resultSet.getString(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertNull(resultSet.getObject(1));
+        Assertions.assertTrue(resultSet.wasNull());
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("6", resultSet.getString(1));
+        Assertions.assertFalse(resultSet.wasNull());
+        Assertions.assertFalse(resultSet.next());
+    }
 }
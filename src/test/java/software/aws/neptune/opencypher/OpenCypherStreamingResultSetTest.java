@@ -0,0 +1,193 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.opencypher;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.SqlError;
+import software.aws.neptune.opencypher.mock.MockOpenCypherDatabase;
+import software.aws.neptune.opencypher.resultset.OpenCypherStreamingResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class OpenCypherStreamingResultSetTest {
+    private static final String HOSTNAME = "localhost";
+    private static final Properties PROPERTIES = new Properties();
+    private static MockOpenCypherDatabase database;
+    private static java.sql.Connection connection;
+
+    /**
+     * Function to get a random available port and initialize database before testing.
+     */
+    @BeforeAll
+    public static void initializeDatabase() throws SQLException {
+        database = MockOpenCypherDatabase.builder(HOSTNAME, OpenCypherStreamingResultSetTest.class.getName()).build();
+        PROPERTIES.put(OpenCypherConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None); // reverse default to None
+        PROPERTIES.put(OpenCypherConnectionProperties.STREAM_RESULTS_KEY, true);
+        PROPERTIES.putIfAbsent(OpenCypherConnectionProperties.ENDPOINT_KEY,
+                String.format("bolt://%s:%d", HOSTNAME, database.getPort()));
+        connection = new OpenCypherConnection(new OpenCypherConnectionProperties(PROPERTIES));
+    }
+
+    /**
+     * Function to get a shutdown database after testing.
+     */
+    @AfterAll
+    public static void shutdownDatabase() throws SQLException {
+        connection.close();
+        database.shutdown();
+    }
+
+    @Test
+    void testStreamedRecords() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(10);
+        final java.sql.ResultSet resultSet = statement.executeQuery("UNWIND range(1, 95) AS x RETURN x, 'a' AS y");
+        Assertions.assertTrue(resultSet instanceof OpenCypherStreamingResultSet);
+        Assertions.assertEquals(10, resultSet.getFetchSize());
+        Assertions.assertEquals(2, resultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals(Types.BIGINT, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(2));
+
+        Assertions.assertTrue(resultSet.isBeforeFirst());
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getLong(1));
+        int expected = 1;
+        while (resultSet.next()) {
+            Assertions.assertEquals(expected, resultSet.getRow());
+            Assertions.assertEquals(expected, resultSet.getLong("x"));
+            Assertions.assertEquals("a", resultSet.getString(2));
+            expected++;
+        }
+        Assertions.assertEquals(96, expected);
+        Assertions.assertTrue(resultSet.isAfterLast());
+        Assertions.assertFalse(resultSet.next());
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getLong(1));
+        resultSet.close();
+    }
+
+    @Test
+    void testCloseBeforeExhaustion() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(5);
+        final java.sql.ResultSet resultSet = statement.executeQuery("UNWIND range(1, 1000) AS x RETURN x");
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1, resultSet.getLong(1));
+        resultSet.close();
+        Assertions.assertThrows(SQLException.class, resultSet::next);
+
+        // The session of the closed ResultSet was released.
+        final java.sql.ResultSet nextResultSet = statement.executeQuery("RETURN 1 AS x");
+        Assertions.assertTrue(nextResultSet.next());
+        Assertions.assertEquals(1, nextResultSet.getInt(1));
+        Assertions.assertFalse(nextResultSet.next());
+    }
+
+    @Test
+    void testColumnTypesFromFirstWindow() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement()
+                .executeQuery("UNWIND [1, 2.5, 'a'] AS x RETURN x");
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertEquals("1", resultSet.getString(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testColumnTypesDoNotChangeAfterFirstWindow() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(2);
+        final java.sql.ResultSet resultSet = statement.executeQuery("UNWIND [1, 2, 'a'] AS x RETURN x");
+        Assertions.assertEquals(Types.BIGINT, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertTrue(resultSet.next());
+        // A value beyond the window keeps its own type.
+        Assertions.assertEquals(Types.BIGINT, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertEquals("a", resultSet.getString(1));
+        Assertions.assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testEmptyResult() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement()
+                .executeQuery("UNWIND [] AS x RETURN x");
+        Assertions.assertEquals(1, resultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertFalse(resultSet.next());
+        Assertions.assertTrue(resultSet.isAfterLast());
+    }
+
+    @Test
+    void testQueryFailure() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement()
+                .executeQuery("UNWIND [1, 0] AS x RETURN 1 / x AS y");
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1, resultSet.getLong(1));
+        Assertions.assertThrows(SQLException.class, resultSet::next);
+    }
+
+    @Test
+    void testInvalidQueryReleasesSession() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        Assertions.assertThrows(SQLException.class, () -> statement.executeQuery("RETURN invalid syntax"));
+
+        final java.sql.ResultSet resultSet = statement.executeQuery("RETURN 1 AS x");
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1, resultSet.getInt(1));
+        Assertions.assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testCancelWhileReadingFirstWindow() throws Exception {
+        final java.sql.Statement statement = connection.createStatement();
+        statement.setFetchSize(10);
+        // The first fetch window is only complete once the whole range is read.
+        final CompletableFuture<java.sql.ResultSet> query = CompletableFuture.supplyAsync(() -> {
+            try {
+                return statement.executeQuery(
+                        "UNWIND range(1, 100000000) AS x WITH x WHERE x = 1 OR x = 100000000 RETURN x");
+            } catch (final SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        // Cancelling fails until the query is in progress.
+        boolean cancelled = false;
+        while (!cancelled && !query.isDone()) {
+            try {
+                statement.cancel();
+                cancelled = true;
+            } catch (final SQLException e) {
+                Thread.sleep(10);
+            }
+        }
+        Assertions.assertTrue(cancelled);
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> query.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(SqlError.lookup(SqlError.QUERY_CANCELED), exception.getCause().getCause().getMessage());
+        statement.close();
+    }
+}
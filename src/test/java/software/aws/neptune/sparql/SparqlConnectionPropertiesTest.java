@@ -116,6 +116,59 @@ public class SparqlConnectionPropertiesTest {
         assertDoesNotThrowOnNewConnectionProperties(properties);
     }
 
+    @Test
+    void testStreamResults() throws SQLException {
+        connectionProperties = new SparqlConnectionProperties();
+        Assertions.assertEquals(SparqlConnectionProperties.DEFAULT_STREAM_RESULTS,
+                connectionProperties.getStreamResults());
+        Assertions.assertEquals(SparqlConnectionProperties.DEFAULT_TYPE_INFERENCE_WINDOW,
+                connectionProperties.getTypeInferenceWindow());
+        connectionProperties.setStreamResults(true);
+        connectionProperties.setTypeInferenceWindow(randomIntValue);
+        Assertions.assertTrue(connectionProperties.getStreamResults());
+        Assertions.assertEquals(randomIntValue, connectionProperties.getTypeInferenceWindow());
+        Assertions.assertThrows(SQLException.class, () -> connectionProperties.setTypeInferenceWindow(-1));
+
+        // the constructor test with DESTINATION properties properly set to avoid throws
+        setInitialDestinationProperty(connectionProperties);
+        final Properties properties = new Properties();
+        properties.putAll(connectionProperties);
+        properties.put(SparqlConnectionProperties.STREAM_RESULTS_KEY, "true");
+        properties.put(SparqlConnectionProperties.TYPE_INFERENCE_WINDOW_KEY, "10");
+        assertDoesNotThrowOnNewConnectionProperties(properties);
+        Assertions.assertEquals(10, new SparqlConnectionProperties(properties).getTypeInferenceWindow());
+    }
+
+    @Test
+    void testHttpConnectionPool() throws SQLException {
+        connectionProperties = new SparqlConnectionProperties();
+        Assertions.assertEquals(SparqlConnectionProperties.DEFAULT_MAX_CONNECTIONS,
+                connectionProperties.getMaxConnections());
+        Assertions.assertEquals(SparqlConnectionProperties.DEFAULT_KEEP_ALIVE_TIME,
+                connectionProperties.getKeepAliveTime());
+        Assertions.assertEquals(SparqlConnectionProperties.DEFAULT_IDLE_CONNECTION_TIMEOUT,
+                connectionProperties.getIdleConnectionTimeout());
+        connectionProperties.setMaxConnections(5);
+        connectionProperties.setKeepAliveTime(0);
+        connectionProperties.setIdleConnectionTimeout(randomIntValue);
+        Assertions.assertEquals(5, connectionProperties.getMaxConnections());
+        Assertions.assertEquals(0, connectionProperties.getKeepAliveTime());
+        Assertions.assertEquals(randomIntValue, connectionProperties.getIdleConnectionTimeout());
+        Assertions.assertThrows(SQLException.class, () -> connectionProperties.setMaxConnections(0));
+        Assertions.assertThrows(SQLException.class, () -> connectionProperties.setKeepAliveTime(-1));
+        Assertions.assertThrows(SQLException.class, () -> connectionProperties.setIdleConnectionTimeout(-1));
+
+        // the constructor test with DESTINATION properties properly set to avoid throws
+        setInitialDestinationProperty(connectionProperties);
+        final Properties properties = new Properties();
+        properties.putAll(connectionProperties);
+        properties.put(SparqlConnectionProperties.MAX_CONNECTIONS_KEY, "50");
+        properties.put(SparqlConnectionProperties.KEEP_ALIVE_TIME_KEY, "1000");
+        assertDoesNotThrowOnNewConnectionProperties(properties);
+        Assertions.assertEquals(50, new SparqlConnectionProperties(properties).getMaxConnections());
+        Assertions.assertEquals(1000, new SparqlConnectionProperties(properties).getKeepAliveTime());
+    }
+
     @Test
     void testContactPoint() throws SQLException {
         final String testValue = "test contact point";
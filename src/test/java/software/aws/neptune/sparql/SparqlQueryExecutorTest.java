@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.sparql;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryCancelledException;
+import org.apache.jena.query.QueryParseException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.AsyncStatement;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.ConnectionProperties;
+import software.aws.neptune.sparql.mock.SparqlMockServer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class SparqlQueryExecutorTest {
+    private static final String HOSTNAME = "http://localhost";
+    private static final String DATASET = "mock";
+    private static final String QUERY_ENDPOINT = "query";
+    private static final int PORT = SparqlMockServer.port(); // Mock server dynamically generates port
+    private static final String QUERY = "SELECT ?s WHERE { ?s ?p ?o } LIMIT 1";
+    private static final int THREAD_COUNT = 8;
+    // Makes the HTTP client identity of the connections of a test distinct from the connections of other tests.
+    private static final int IDLE_CONNECTION_TIMEOUT = 12345;
+
+    private static Properties sparqlProperties() {
+        final Properties properties = new Properties();
+        properties.put(ConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None); // set default to None
+        properties.put(SparqlConnectionProperties.ENDPOINT_KEY, HOSTNAME);
+        properties.put(SparqlConnectionProperties.PORT_KEY, PORT);
+        properties.put(SparqlConnectionProperties.DATASET_KEY, DATASET);
+        properties.put(SparqlConnectionProperties.QUERY_ENDPOINT_KEY, QUERY_ENDPOINT);
+        return properties;
+    }
+
+    /**
+     * Function to start the mock server before testing.
+     */
+    @BeforeAll
+    public static void initializeMockServer() {
+        SparqlMockServer.ctlBeforeClass();
+    }
+
+    /**
+     * Function to tear down server after testing.
+     */
+    @AfterAll
+    public static void shutdownMockServer() {
+        SparqlMockServer.ctlAfterClass();
+    }
+
+    @Test
+    void testParsedQueryIsCached() {
+        final Query query = SparqlQueryExecutor.parseQuery(QUERY);
+        Assertions.assertTrue(query.isSelectType());
+        Assertions.assertSame(query, SparqlQueryExecutor.parseQuery(QUERY));
+        Assertions.assertNotSame(query, SparqlQueryExecutor.parseQuery(QUERY + " OFFSET 1"));
+    }
+
+    @Test
+    void testInvalidQueryIsNotCached() {
+        Assertions.assertThrows(QueryParseException.class, () -> SparqlQueryExecutor.parseQuery("SELECT"));
+        Assertions.assertThrows(QueryParseException.class, () -> SparqlQueryExecutor.parseQuery("SELECT"));
+    }
+
+    @Test
+    void testCancelBeforeExecutionIsCreated() throws SQLException {
+        final SparqlQueryExecutor queryExecutor =
+                new SparqlQueryExecutor(new SparqlConnectionProperties(sparqlProperties()));
+        queryExecutor.performCancel();
+        Assertions.assertThrows(QueryCancelledException.class,
+                () -> queryExecutor.runQuery("SELECT ?x WHERE { VALUES ?x { 1 } }"));
+    }
+
+    @Test
+    void testAsyncQueriesAreIndependentOfStatement() throws Exception {
+        try (java.sql.Connection connection =
+                     new SparqlConnection(new SparqlConnectionProperties(sparqlProperties()))) {
+            final java.sql.Statement statement = connection.createStatement();
+            final AsyncStatement asyncStatement = statement.unwrap(AsyncStatement.class);
+            final List<CompletableFuture<java.sql.ResultSet>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(asyncStatement.executeQueryAsync("SELECT ?x WHERE { VALUES ?x { " + i + " } }"));
+            }
+            final java.sql.ResultSet resultSet = statement.executeQuery("SELECT ?x WHERE { VALUES ?x { 1 } }");
+            Assertions.assertTrue(resultSet.next());
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                final java.sql.ResultSet asyncResultSet = futures.get(i).get(5, TimeUnit.SECONDS);
+                Assertions.assertTrue(asyncResultSet.next());
+                Assertions.assertEquals(i, asyncResultSet.getLong(1));
+            }
+        }
+    }
+
+    @Test
+    void testQueriesRunInParallelAcrossConnections() throws Exception {
+        final ExecutorService threads = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            final List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                final long value = i;
+                results.add(threads.submit((Callable<Long>) () -> {
+                    try (java.sql.Connection connection =
+                                 new SparqlConnection(new SparqlConnectionProperties(sparqlProperties()))) {
+                        final java.sql.ResultSet resultSet = connection.createStatement()
+                                .executeQuery("SELECT ?x WHERE { VALUES ?x { " + value + " } }");
+                        Assertions.assertTrue(resultSet.next());
+                        return resultSet.getLong(1);
+                    }
+                }));
+            }
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                Assertions.assertEquals(i, results.get(i).get());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void testHttpClientIsSharedByEndpoint() throws SQLException {
+        final Properties properties = sparqlProperties();
+        properties.put(SparqlConnectionProperties.IDLE_CONNECTION_TIMEOUT_KEY, IDLE_CONNECTION_TIMEOUT);
+        final SparqlConnectionProperties connectionProperties1 = new SparqlConnectionProperties(properties);
+        final SparqlConnectionProperties connectionProperties2 = new SparqlConnectionProperties(properties);
+        properties.put(SparqlConnectionProperties.MAX_CONNECTIONS_KEY, 5);
+        final SparqlConnectionProperties otherPoolProperties = new SparqlConnectionProperties(properties);
+        try {
+            final HttpClient httpClient = SparqlQueryExecutor.getHttpClient(connectionProperties1);
+            Assertions.assertSame(httpClient, SparqlQueryExecutor.getHttpClient(connectionProperties1));
+            Assertions.assertSame(httpClient, SparqlQueryExecutor.getHttpClient(connectionProperties2));
+            Assertions.assertNotSame(httpClient, SparqlQueryExecutor.getHttpClient(otherPoolProperties));
+
+            // The HTTP client is kept while a connection uses it.
+            SparqlQueryExecutor.close(connectionProperties1);
+            Assertions.assertSame(httpClient, SparqlQueryExecutor.getHttpClient(connectionProperties2));
+            SparqlQueryExecutor.close(connectionProperties2);
+            Assertions.assertNotSame(httpClient, SparqlQueryExecutor.getHttpClient(connectionProperties1));
+        } finally {
+            SparqlQueryExecutor.close(connectionProperties1);
+            SparqlQueryExecutor.close(connectionProperties2);
+            SparqlQueryExecutor.close(otherPoolProperties);
+        }
+    }
+
+    @Test
+    void testQueriesAndValidationReuseHttpClient() throws SQLException {
+        final Properties properties = sparqlProperties();
+        properties.put(SparqlConnectionProperties.IDLE_CONNECTION_TIMEOUT_KEY, IDLE_CONNECTION_TIMEOUT + 1);
+        final SparqlConnectionProperties connectionProperties = new SparqlConnectionProperties(properties);
+        try (java.sql.Connection connection = new SparqlConnection(connectionProperties)) {
+            final java.sql.ResultSet resultSet =
+                    connection.createStatement().executeQuery("SELECT ?x WHERE { VALUES ?x { 1 } }");
+            Assertions.assertTrue(resultSet.next());
+            final HttpClient httpClient =
+                    SparqlQueryExecutor.getHttpClient(((SparqlConnection) connection).getSparqlConnectionProperties());
+            Assertions.assertTrue(connection.isValid(1));
+            Assertions.assertSame(httpClient,
+                    SparqlQueryExecutor.getHttpClient(((SparqlConnection) connection).getSparqlConnectionProperties()));
+        }
+    }
+
+    @Test
+    void testIamRejectsHttpClient() throws SQLException {
+        final Properties properties = sparqlProperties();
+        properties.put(ConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.IAMSigV4);
+        properties.put(SparqlConnectionProperties.SERVICE_REGION_KEY, "mock-region");
+        final SparqlConnectionProperties connectionProperties = new SparqlConnectionProperties(properties);
+        // Set after the properties are validated, the requests would not be signed.
+        connectionProperties.setHttpClient(HttpClientBuilder.create().build());
+        Assertions.assertThrows(SQLException.class, () -> SparqlQueryExecutor.createRDFBuilder(connectionProperties));
+    }
+}
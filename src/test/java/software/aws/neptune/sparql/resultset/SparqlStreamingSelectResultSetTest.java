@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ *
+ */
+
+package software.aws.neptune.sparql.resultset;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.aws.neptune.jdbc.utilities.AuthScheme;
+import software.aws.neptune.jdbc.utilities.ConnectionProperties;
+import software.aws.neptune.sparql.SparqlConnection;
+import software.aws.neptune.sparql.SparqlConnectionProperties;
+import software.aws.neptune.sparql.mock.SparqlMockServer;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.Properties;
+
+public class SparqlStreamingSelectResultSetTest {
+    private static final String HOSTNAME = "http://localhost";
+    private static final String DATASET = "mock";
+    private static final String QUERY_ENDPOINT = "query";
+    private static final int PORT = SparqlMockServer.port(); // Mock server dynamically generates port
+    private static final int TYPE_INFERENCE_WINDOW = 2;
+    private java.sql.Connection connection;
+
+    private static Properties sparqlProperties() {
+        final Properties properties = new Properties();
+        properties.put(ConnectionProperties.AUTH_SCHEME_KEY, AuthScheme.None); // set default to None
+        properties.put(SparqlConnectionProperties.ENDPOINT_KEY, HOSTNAME);
+        properties.put(SparqlConnectionProperties.PORT_KEY, PORT);
+        properties.put(SparqlConnectionProperties.DATASET_KEY, DATASET);
+        properties.put(SparqlConnectionProperties.QUERY_ENDPOINT_KEY, QUERY_ENDPOINT);
+        properties.put(SparqlConnectionProperties.STREAM_RESULTS_KEY, true);
+        properties.put(SparqlConnectionProperties.TYPE_INFERENCE_WINDOW_KEY, TYPE_INFERENCE_WINDOW);
+        return properties;
+    }
+
+    /**
+     * Function to start the mock server before testing.
+     */
+    @BeforeAll
+    public static void initializeMockServer() {
+        SparqlMockServer.ctlBeforeClass();
+    }
+
+    /**
+     * Function to tear down server after testing.
+     */
+    @AfterAll
+    public static void shutdownMockServer() {
+        SparqlMockServer.ctlAfterClass();
+    }
+
+    @BeforeEach
+    void initialize() throws SQLException {
+        connection = new SparqlConnection(new SparqlConnectionProperties(sparqlProperties()));
+    }
+
+    @AfterEach
+    void shutdown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testStreamedSolutions() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement().executeQuery(
+                "SELECT ?x ?y WHERE { VALUES ?x { 1 2 3 4 5 } BIND(\"a\" AS ?y) } ORDER BY ?x");
+        Assertions.assertTrue(resultSet instanceof SparqlStreamingSelectResultSet);
+        Assertions.assertEquals(2, resultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals(Types.BIGINT, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(2));
+
+        Assertions.assertTrue(resultSet.isBeforeFirst());
+        Assertions.assertThrows(SQLException.class, () -> resultSet.getLong(1));
+        int expected = 1;
+        while (resultSet.next()) {
+            Assertions.assertEquals(expected, resultSet.getRow());
+            Assertions.assertEquals(expected == 1, resultSet.isFirst());
+            Assertions.assertEquals(expected, resultSet.getLong("x"));
+            Assertions.assertEquals("a", resultSet.getString(2));
+            Assertions.assertThrows(SQLException.class, () -> resultSet.getString(3));
+            Assertions.assertThrows(SQLFeatureNotSupportedException.class, resultSet::isLast);
+            expected++;
+        }
+        Assertions.assertEquals(6, expected);
+        Assertions.assertTrue(resultSet.isAfterLast());
+        Assertions.assertEquals(0, resultSet.getRow());
+        Assertions.assertFalse(resultSet.next());
+        resultSet.close();
+    }
+
+    @Test
+    void testTypesInferredFromWindow() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement().executeQuery(
+                "SELECT ?x ?y WHERE { VALUES (?x ?y) { (1 UNDEF) (2 UNDEF) (\"three\" 3) } }");
+        // The third solution is outside of the type inference window.
+        Assertions.assertEquals(Types.BIGINT, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(2));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1, resultSet.getInt(1));
+        Assertions.assertNull(resultSet.getString(2));
+        Assertions.assertTrue(resultSet.wasNull());
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(2, resultSet.getInt(1));
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals("three", resultSet.getString(1));
+        Assertions.assertEquals("three", resultSet.getObject(1));
+        Assertions.assertEquals(3, resultSet.getInt(2));
+        Assertions.assertFalse(resultSet.wasNull());
+        Assertions.assertFalse(resultSet.next());
+    }
+
+    @Test
+    void testCloseBeforeExhaustion() throws SQLException {
+        final java.sql.Statement statement = connection.createStatement();
+        final java.sql.ResultSet resultSet =
+                statement.executeQuery("SELECT ?x WHERE { VALUES ?x { 1 2 3 4 5 } } ORDER BY ?x");
+        Assertions.assertTrue(resultSet.next());
+        Assertions.assertEquals(1, resultSet.getInt(1));
+        resultSet.close();
+        Assertions.assertTrue(resultSet.isClosed());
+
+        // The statement can execute other queries once the streamed result is closed.
+        final java.sql.ResultSet nextResultSet = statement.executeQuery("SELECT ?x WHERE { VALUES ?x { 1 } }");
+        Assertions.assertTrue(nextResultSet.next());
+        Assertions.assertEquals(1, nextResultSet.getInt(1));
+        Assertions.assertFalse(nextResultSet.next());
+    }
+
+    @Test
+    void testEmptyResult() throws SQLException {
+        final java.sql.ResultSet resultSet = connection.createStatement()
+                .executeQuery("SELECT ?x WHERE { VALUES ?x { } }");
+        Assertions.assertEquals(1, resultSet.getMetaData().getColumnCount());
+        Assertions.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(1));
+        Assertions.assertFalse(resultSet.next());
+        Assertions.assertTrue(resultSet.isAfterLast());
+    }
+}
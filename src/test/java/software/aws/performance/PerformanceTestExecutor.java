@@ -88,7 +88,7 @@ public abstract class PerformanceTestExecutor {
         }
     }
 
-    enum RetrieveType {
+    public enum RetrieveType {
         OBJECT,
         STRING,
         INTEGER
@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Properties;
 
 public class SparqlBaselineExecutor extends PerformanceTestExecutor {
+    private final SparqlConnectionProperties sparqlConnectionProperties;
     private final RDFConnection rdfConnection;
     private QueryExecution queryExecution;
 
@@ -46,10 +47,21 @@ public class SparqlBaselineExecutor extends PerformanceTestExecutor {
         properties.put(SparqlConnectionProperties.ENDPOINT_KEY, PerformanceTestConstants.SPARQL_ENDPOINT);
         properties.put(SparqlConnectionProperties.PORT_KEY, PerformanceTestConstants.PORT);
         properties.put(SparqlConnectionProperties.QUERY_ENDPOINT_KEY, PerformanceTestConstants.SPARQL_QUERY);
-        final SparqlConnectionProperties sparqlConnectionProperties = new SparqlConnectionProperties(properties);
+        sparqlConnectionProperties = new SparqlConnectionProperties(properties);
         rdfConnection = SparqlQueryExecutor.createRDFBuilder(sparqlConnectionProperties).build();
     }
 
+    @Override
+    public void runTest(final String testName, final String query, final int runs, final RetrieveType retrieveType) {
+        try {
+            super.runTest(testName, query, runs, retrieveType);
+        } finally {
+            rdfConnection.close();
+            // Releases the pooled HTTP client used by the RDF connection.
+            SparqlQueryExecutor.close(sparqlConnectionProperties);
+        }
+    }
+
     /**
      * We are testing SELECT queries only
      */